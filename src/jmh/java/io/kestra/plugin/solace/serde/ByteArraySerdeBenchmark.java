@@ -0,0 +1,71 @@
+package io.kestra.plugin.solace.serde;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the allocations of {@link ByteArraySerde}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ByteArraySerdeBenchmark}: with the {@code gc} profiler,
+ * {@code gc.alloc.rate.norm} must stay close to 0 B/op for {@code ARRAY}, {@code HEAP} and {@code deserialize},
+ * and close to the payload size for {@code SLICE} and {@code DIRECT}, which are copied exactly once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteArraySerdeBenchmark {
+
+    public enum Payloads {
+        ARRAY,
+        HEAP,
+        SLICE,
+        DIRECT
+    }
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    @Param
+    public Payloads payload;
+
+    private final ByteArraySerde serde = new ByteArraySerde();
+
+    private byte[] bytes;
+    private Object data;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        data = switch (payload) {
+            case ARRAY -> bytes;
+            case HEAP -> ByteBuffer.wrap(bytes);
+            case SLICE -> ByteBuffer.wrap(new byte[size * 2]).position(size / 2).slice().limit(size);
+            case DIRECT -> ByteBuffer.allocateDirect(size);
+        };
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serde.serialize(data);
+    }
+
+    @Benchmark
+    public ByteBuffer deserialize() {
+        return serde.deserialize(bytes);
+    }
+}
@@ -0,0 +1,75 @@
+package io.kestra.plugin.solace.serde;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Compares the throughput and allocation rate of the buffer-reusing Jackson serdes against
+ * {@link ObjectMapper#writeValueAsBytes(Object)}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JacksonSerdeBenchmark} and compare {@code gc.alloc.rate.norm}
+ * between the {@code serde} and {@code writeValueAsBytes} benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerdeBenchmark {
+
+    @Param({"JSON", "ION"})
+    public Serdes format;
+
+    @Param({"10", "1000"})
+    public int fields;
+
+    private Serde serde;
+    private ObjectMapper objectMapper;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setup() {
+        serde = format.create(Map.of());
+        objectMapper = switch (format) {
+            case JSON -> JsonMapper.builder().build();
+            case ION -> JacksonMapper.ofIon().setSerializationInclusion(JsonInclude.Include.ALWAYS);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+        data = new LinkedHashMap<>();
+        for (int i = 0; i < fields; i++) {
+            data.put("field" + i, List.of(i, "value" + i, i * 0.5));
+        }
+    }
+
+    @Benchmark
+    public byte[] serde() {
+        return serde.serialize(data);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(data);
+    }
+}
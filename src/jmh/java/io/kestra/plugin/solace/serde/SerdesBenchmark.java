@@ -0,0 +1,85 @@
+package io.kestra.plugin.solace.serde;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the payload size and the serialization throughput of the built-in serdes for numeric-heavy telemetry.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=SerdesBenchmark}. The {@code payloadBytes} secondary result reports
+ * the serialized size of one message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerdesBenchmark {
+
+    @Param({"JSON", "ION", "CBOR", "SMILE", "MESSAGEPACK"})
+    public Serdes format;
+
+    @Param({"100"})
+    public int samples;
+
+    private Serde serde;
+    private Map<String, Object> data;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        serde = format.create(Map.of());
+        List<Map<String, Object>> points = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("timestamp", 1_700_000_000_000L + i);
+            point.put("temperature", 20.0 + i * 0.01);
+            point.put("pressure", 1013.25 - i * 0.1);
+            point.put("sequence", i);
+            points.add(point);
+        }
+        data = Map.of("device", "sensor-1", "points", points);
+        serialized = serde.serialize(data);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Size {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(final Size size) {
+        byte[] bytes = serde.serialize(data);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serde.deserialize(serialized);
+    }
+}
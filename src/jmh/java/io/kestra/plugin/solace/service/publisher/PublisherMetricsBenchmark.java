@@ -0,0 +1,46 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead added to the publish path by {@link PublisherMetrics}, with publishers sharing one instance.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=PublisherMetricsBenchmark}; the cost of recording a message must
+ * stay negligible compared to the microseconds spent publishing it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PublisherMetricsBenchmark {
+
+    private final PublisherMetrics metrics = new PublisherMetrics();
+
+    @Benchmark
+    public void baseline() {
+        ThreadLocalRandom.current().nextLong(1_000, 10_000_000);
+    }
+
+    @Benchmark
+    public void recordMessage() {
+        final long latency = ThreadLocalRandom.current().nextLong(1_000, 10_000_000);
+        metrics.recordSerialization(latency >> 4);
+        metrics.recordPublishedBytes(1024);
+        metrics.recordAckLatency(latency);
+    }
+}
@@ -0,0 +1,69 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.serde.Serdes;
+
+/**
+ * Compares the cost of decoding a received payload and writing it to the Ion output, for each {@link PayloadModes}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=PayloadModesBenchmark} and compare the throughput of the raw modes
+ * against {@link PayloadModes#DESERIALIZED}.
+ * <p>
+ * The format and mode are combined into a single parameter, so that {@link PayloadModes#RAW_STRING} is not run
+ * against binary Ion, which is not valid UTF-8.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadModesBenchmark {
+
+    @Param({"JSON/DESERIALIZED", "JSON/RAW_BYTES", "JSON/RAW_STRING", "ION/DESERIALIZED", "ION/RAW_BYTES"})
+    public String formatAndMode;
+
+    @Param({"10", "200"})
+    public int fields;
+
+    private PayloadModes mode;
+    private Serde serde;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        final String[] parts = formatAndMode.split("/");
+        mode = PayloadModes.valueOf(parts[1]);
+        serde = Serdes.valueOf(parts[0]).create(Map.of());
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < fields; i++) {
+            data.put("field" + i, List.of(i, "value" + i, i * 0.5));
+        }
+        payload = serde.serialize(data);
+    }
+
+    @Benchmark
+    public void decodeAndWrite() throws IOException {
+        FileSerde.write(OutputStream.nullOutputStream(), Map.of("payload", mode.decode(payload, serde)));
+    }
+}
@@ -15,7 +15,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @SuperBuilder
 @Getter
-abstract class AbstractSolaceTask extends Task implements SolaceConnectionInterface {
+abstract class AbstractSolaceTask extends Task implements SolacePooledConnectionInterface {
 
     @PluginProperty(secret = true, group = "connection")
     private Property<String> username;
@@ -30,4 +30,7 @@ abstract class AbstractSolaceTask extends Task implements SolaceConnectionInterf
 
     @Builder.Default
     private Property<Map<String, String>> properties = Property.ofValue(new HashMap<>());
+
+    @Builder.Default
+    private Property<Boolean> connectionPooling = Property.ofValue(false);
 }
@@ -8,22 +8,32 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 
-import com.solace.messaging.MessagingService;
-
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.solace.client.MessagingServiceFactory;
+import io.kestra.plugin.solace.client.MessagingServiceLease;
 import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.serde.SerdeProperties;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.receiver.AcknowledgementModes;
+import io.kestra.plugin.solace.service.receiver.ChunkAssembler;
+import io.kestra.plugin.solace.service.receiver.MessageAcknowledger;
+import io.kestra.plugin.solace.service.receiver.PayloadModes;
+import io.kestra.plugin.solace.service.receiver.PollExitReasons;
 import io.kestra.plugin.solace.service.receiver.QueueTypes;
+import io.kestra.plugin.solace.service.receiver.ReceiveBuffer;
 import io.kestra.plugin.solace.service.receiver.ReceiverContext;
 import io.kestra.plugin.solace.service.receiver.SolacePersistentMessageReceiver;
 
@@ -60,6 +70,13 @@ import lombok.experimental.SuperBuilder;
                     """
             }
         )
+    },
+    metrics = {
+        @Metric(name = "poll.duration", description = "Time spent receiving messages", type = Timer.TYPE),
+        @Metric(name = "poll.exits", description = "Number of polls, tagged by exitReason: MAX_MESSAGES, MAX_DURATION or IDLE_TIMEOUT", type = Counter.TYPE),
+        @Metric(name = "connection.pool.hits", description = "Number of sessions borrowed from the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.misses", description = "Number of new sessions connected for the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.evictions", description = "Number of pooled sessions evicted while borrowing a session, when connectionPooling is true", type = Counter.TYPE),
     }
 )
 @Schema(
@@ -102,6 +119,45 @@ public class Consume extends AbstractSolaceTask implements SolaceConsumeInterfac
     @PluginProperty(group = "processing")
     private Property<String> messageSelector;
 
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> chunkReassemblyBufferSize = Property.ofValue(ChunkAssembler.DEFAULT_MAX_BUFFERED_BYTES);
+
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> chunkReassemblyTimeout = Property.ofValue(ChunkAssembler.DEFAULT_TIMEOUT);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<AcknowledgementModes> acknowledgementMode = Property.ofValue(AcknowledgementModes.IMMEDIATE);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> acknowledgementBatchSize = Property.ofValue(MessageAcknowledger.DEFAULT_BATCH_SIZE);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> acknowledgementInterval = Property.ofValue(MessageAcknowledger.DEFAULT_INTERVAL);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> asyncReceive = Property.ofValue(false);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> receiveBufferCapacity = Property.ofValue(ReceiveBuffer.DEFAULT_CAPACITY);
+
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> deserializationParallelism = Property.ofValue(1);
+
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<PayloadModes> payloadMode = Property.ofValue(PayloadModes.DESERIALIZED);
+
+    @PluginProperty(group = "execution")
+    private Property<Duration> idleTimeout;
+
     /**
      * {@inheritDoc}
      **/
@@ -114,40 +170,66 @@ public class Consume extends AbstractSolaceTask implements SolaceConsumeInterfac
 
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
         try (
-            BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))
+            BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile));
+            MessagingServiceLease lease = MessagingServiceFactory.lease(task, runContext)
         ) {
             final Serde serde = runContext.render(
                 task
                     .getMessageDeserializer()
             ).as(Serdes.class).orElseThrow()
-                .create(runContext.render(task.getMessageDeserializerProperties()).asMap(String.class, Object.class));
-            final MessagingService service = MessagingServiceFactory.create(task, runContext);
+                .create(SerdeProperties.render(runContext, task.getMessageDeserializerProperties()));
             final Logger logger = runContext.logger();
             SolacePersistentMessageReceiver receiver = new SolacePersistentMessageReceiver(serde, logger);
 
             final String queueName = runContext.render(task.getQueueName()).as(String.class).orElseThrow();
+            final AtomicReference<URI> uri = new AtomicReference<>();
 
-            int totalReceivedMessages = receiver.poll(
-                service,
-                new ReceiverContext(
-                    runContext.render(task.getMaxDuration()).as(Duration.class).orElse(null),
-                    runContext.render(task.getMaxMessages()).as(Integer.class).orElse(null),
-                    runContext.render(task.getMessageSelector()).as(String.class).orElse(null)
-                ),
+            SolacePersistentMessageReceiver.PollResult result = receiver.poll(
+                lease.service(),
+                ReceiverContext.builder()
+                    .maxDuration(runContext.render(task.getMaxDuration()).as(Duration.class).orElse(null))
+                    .maxMessages(runContext.render(task.getMaxMessages()).as(Integer.class).orElse(null))
+                    .messageSelector(runContext.render(task.getMessageSelector()).as(String.class).orElse(null))
+                    .chunkBufferSize(runContext.render(task.getChunkReassemblyBufferSize()).as(Long.class).orElse(null))
+                    .chunkTimeout(runContext.render(task.getChunkReassemblyTimeout()).as(Duration.class).orElse(null))
+                    .chunkSpillDirectory(runContext.workingDir().path())
+                    .acknowledgementMode(runContext.render(task.getAcknowledgementMode()).as(AcknowledgementModes.class).orElse(null))
+                    .acknowledgementBatchSize(runContext.render(task.getAcknowledgementBatchSize()).as(Integer.class).orElse(null))
+                    .acknowledgementInterval(runContext.render(task.getAcknowledgementInterval()).as(Duration.class).orElse(null))
+                    .asyncReceive(runContext.render(task.getAsyncReceive()).as(Boolean.class).orElse(false))
+                    .receiveBufferCapacity(runContext.render(task.getReceiveBufferCapacity()).as(Integer.class).orElse(null))
+                    .deserializationParallelism(runContext.render(task.getDeserializationParallelism()).as(Integer.class).orElse(null))
+                    .payloadMode(runContext.render(task.getPayloadMode()).as(PayloadModes.class).orElse(null))
+                    .idleTimeout(runContext.render(task.getIdleTimeout()).as(Duration.class).orElse(null))
+                    .build(),
                 runContext.render(task.getQueueType()).as(QueueTypes.class).orElseThrow()
                     .get(queueName),
-                message ->
-                {
-                    try {
-                        FileSerde.write(output, message);
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
+                new SolacePersistentMessageReceiver.MessageListener() {
+                    @Override
+                    public void onMessage(final SolacePersistentMessageReceiver.InboundMessageObject message) {
+                        try {
+                            FileSerde.write(output, message);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        // the output is stored before pending messages are acknowledged.
+                        try {
+                            output.flush();
+                            uri.set(runContext.storage().putFile(tempFile));
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
                     }
                 }
             );
 
-            output.flush();
-            return new Output(totalReceivedMessages, runContext.storage().putFile(tempFile));
+            runContext.metric(Timer.of("poll.duration", result.elapsed()));
+            runContext.metric(Counter.of("poll.exits", 1, "exitReason", result.exitReason().name()));
+            return new Output(result.messagesCount(), uri.get(), result.exitReason());
         }
     }
 
@@ -165,5 +247,11 @@ public class Consume extends AbstractSolaceTask implements SolaceConsumeInterfac
             description = "Internal storage URI (`kestra://`) containing the serialized messages."
         )
         private URI uri;
+
+        @Schema(
+            title = "Poll exit reason",
+            description = "Why the poll returned: MAX_MESSAGES, MAX_DURATION or IDLE_TIMEOUT."
+        )
+        private PollExitReasons exitReason;
     }
 }
@@ -1,30 +1,47 @@
 package io.kestra.plugin.solace;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-
-import com.solace.messaging.MessagingService;
-import com.solace.messaging.resources.Topic;
+import java.util.function.Supplier;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Data;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.solace.client.MessagingServiceFactory;
-import io.kestra.plugin.solace.data.InputStreamProvider;
+import io.kestra.plugin.solace.client.MessagingServiceLease;
+import io.kestra.plugin.solace.data.IonRowReader;
+import io.kestra.plugin.solace.serde.CompressionCodecs;
 import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.serde.SerdeProperties;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.checkpoint.Checkpoint;
+import io.kestra.plugin.solace.service.checkpoint.CheckpointStore;
+import io.kestra.plugin.solace.service.checkpoint.Checkpointer;
 import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher;
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+import io.kestra.plugin.solace.service.publisher.AckTracker;
+import io.kestra.plugin.solace.service.publisher.BackPressureStrategies;
 import io.kestra.plugin.solace.service.publisher.DeliveryModes;
+import io.kestra.plugin.solace.service.publisher.PublisherContext;
+import io.kestra.plugin.solace.service.publisher.PublishReceiptWriter;
+import io.kestra.plugin.solace.service.publisher.PublisherMetrics;
+import io.kestra.plugin.solace.service.publisher.RateLimiter;
 import io.kestra.plugin.solace.service.publisher.SolaceDirectMessagePublisher;
+import io.kestra.plugin.solace.service.publisher.SolaceMessagePublisher;
+import io.kestra.plugin.solace.service.publisher.SolacePartitionedMessagePublisher;
 import io.kestra.plugin.solace.service.publisher.SolacePersistentMessagePublisher;
+import io.kestra.plugin.solace.service.publisher.SolaceTransactedMessagePublisher;
+import io.kestra.plugin.solace.service.publisher.TopicResolver;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -33,8 +50,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
 
-import static io.kestra.core.utils.Rethrow.throwFunction;
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 
 /**
  * The {@link RunnableTask} can be used for producing messages to a Solace Broker.
@@ -89,6 +107,22 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
     },
     metrics = {
         @Metric(name = "messages", description = "Number of messages", type = Counter.TYPE),
+        @Metric(name = "resumed.messages", description = "Number of messages skipped because they were acknowledged by a previous attempt", type = Counter.TYPE),
+        @Metric(name = "rejected.messages", description = "Number of DIRECT messages rejected because the publisher buffer was full", type = Counter.TYPE),
+        @Metric(name = "backpressure.duration", description = "Time spent blocked on a full DIRECT publisher buffer", type = Timer.TYPE),
+        @Metric(name = "bytes", description = "Total serialized payload bytes published", type = Counter.TYPE),
+        @Metric(name = "serialization.duration", description = "Time spent serializing and compressing payloads", type = Timer.TYPE),
+        @Metric(name = "ack.latency.p50", description = "Median PERSISTENT acknowledgement latency", type = Timer.TYPE),
+        @Metric(name = "ack.latency.p95", description = "95th percentile of PERSISTENT acknowledgement latency", type = Timer.TYPE),
+        @Metric(name = "ack.latency.p99", description = "99th percentile of PERSISTENT acknowledgement latency", type = Timer.TYPE),
+        @Metric(name = "ack.latency.max", description = "Highest PERSISTENT acknowledgement latency", type = Timer.TYPE),
+        @Metric(name = "commits", description = "Number of committed transactions", type = Counter.TYPE),
+        @Metric(name = "commit.duration", description = "Time spent committing transactions", type = Timer.TYPE),
+        @Metric(name = "rollbacks", description = "Number of rolled back transactions", type = Counter.TYPE),
+        @Metric(name = "throttle.duration", description = "Time spent waiting for the publishing rate limit", type = Timer.TYPE),
+        @Metric(name = "connection.pool.hits", description = "Number of sessions borrowed from the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.misses", description = "Number of new sessions connected for the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.evictions", description = "Number of pooled sessions evicted while borrowing a session, when connectionPooling is true", type = Counter.TYPE),
     }
 )
 @Schema(
@@ -101,13 +135,19 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 public class Produce extends AbstractSolaceTask implements RunnableTask<Produce.Output>, Data.From {
     @Schema(
         title = "Message content",
-        description = "Internal storage URI (`kestra://`), a map, or a list of maps to publish."
+        description = "Internal storage URI (`kestra://`), a map, or a list of maps to publish. Each message has a `payload`, and optional `properties` and `topic` fields."
     )
     @NotNull
     @PluginProperty(group = "main")
     private Object from;
 
-    @Schema(title = "Topic destination", description = "Rendered topic string for all outgoing messages.")
+    @Schema(
+        title = "Topic destination",
+        description = """
+            Rendered topic string for outgoing messages that do not define their own `topic` field.
+            Can reference message properties with `${name}` placeholders resolved per message, e.g. `orders/${region}`.
+            """
+    )
     @NotNull
     @PluginProperty(group = "main")
     private Property<String> topicDestination;
@@ -117,12 +157,47 @@ public class Produce extends AbstractSolaceTask implements RunnableTask<Produce.
     @PluginProperty(group = "advanced")
     private Property<Serdes> messageSerializer = Property.ofValue(Serdes.STRING);
 
-    @Schema(title = "Serializer properties", description = "Key/value configs passed to the serializer.")
+    @Schema(
+        title = "Serializer properties",
+        description = """
+            Key/value configs passed to the serializer.
+            AVRO and PROTOBUF require the schema in `serializer.schema`, either inline or as an internal storage URI (`kestra://`); PROTOBUF also accepts the message type in `serializer.message-type`.
+            """
+    )
     @Builder.Default
     @PluginProperty(group = "advanced")
     protected Property<Map<String, Object>> messageSerializerProperties = Property.ofValue(new HashMap<>());
 
-    @Schema(title = "Delivery mode", description = "DIRECT sends immediately; PERSISTENT waits for broker acknowledgement.")
+    @Schema(
+        title = "Compression codec",
+        description = """
+            Codec used to compress serialized payloads: NONE, GZIP, LZ4 or ZSTD. Defaults to NONE.
+            Compressed messages carry the `kestra.compression` property and are decompressed automatically by Consume and Trigger.
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<CompressionCodecs> compression = Property.ofValue(CompressionCodecs.NONE);
+
+    @Schema(title = "Compression minimum size", description = "Minimum serialized payload size, in bytes, for a message to be compressed. Defaults to 1024.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> compressionMinSize = Property.ofValue(1024);
+
+    @Schema(
+        title = "Chunk size",
+        description = """
+            Maximum payload size, in bytes, sent in a single message. Larger payloads, after compression, are split into chunks that Consume and Trigger reassemble.
+            Chunks carry the `kestra.chunk.group`, `kestra.chunk.sequence` and `kestra.chunk.total` properties. Disabled by default.
+            """
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> chunkSize;
+
+    @Schema(
+        title = "Delivery mode",
+        description = "DIRECT sends immediately; PERSISTENT waits for broker acknowledgement; TRANSACTED commits messages in batches, rolling back the open batch on failure. With TRANSACTED and parallelism greater than 1, each lane commits its own independent transactions."
+    )
     @Builder.Default
     @PluginProperty(group = "advanced")
     private Property<DeliveryModes> deliveryMode = Property.ofValue(DeliveryModes.PERSISTENT);
@@ -133,6 +208,70 @@ public class Produce extends AbstractSolaceTask implements RunnableTask<Produce.
     @PluginProperty(group = "execution")
     private Property<Duration> awaitAcknowledgementTimeout = Property.ofValue(Duration.ofMinutes(1));
 
+    @Schema(
+        title = "Maximum in-flight messages",
+        description = """
+            Max messages published but not yet acknowledged when deliveryMode is PERSISTENT. Defaults to 1, which waits for each acknowledgement before sending the next message.
+            Greater values pipeline publishing; the task fails on any negative acknowledgement or if acknowledgements are still missing after awaitAcknowledgementTimeout.
+            """
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxInFlightMessages = Property.ofValue(1);
+
+    @Schema(
+        title = "Store publish receipts",
+        description = """
+            Write the receipt of each message to an internal storage Ion file when deliveryMode is PERSISTENT. Defaults to false.
+            Each line holds the message `index` in the input, its `applicationMessageId`, the `persisted` flag, the `ackLatencyMicros` and the `error`, if any.
+            Receipts are written in the order acknowledgements are received; a chunked payload gets one receipt per chunk.
+            If publishing fails, the receipts recorded so far are still stored and their URI is logged, as a failed task has no outputs.
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> storeReceipts = Property.ofValue(false);
+
+    @Schema(
+        title = "Back-pressure strategy",
+        description = """
+            Behavior when the DIRECT publisher buffer is full. WAIT blocks until there is room, REJECT skips and counts the message, ELASTIC buffers without bound. Defaults to WAIT.
+            The time spent blocked and the number of rejected messages are reported as task metrics.
+            """
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<BackPressureStrategies> backPressureStrategy = Property.ofValue(BackPressureStrategies.WAIT);
+
+    @Schema(
+        title = "Back-pressure buffer capacity",
+        description = "Number of messages the DIRECT publisher can buffer before applying the back-pressure strategy. Ignored for ELASTIC. Defaults to 1000."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> backPressureBufferCapacity = Property.ofValue(SolaceDirectMessagePublisher.DEFAULT_BACKPRESSURE_BUFFER_SIZE);
+
+    @Schema(
+        title = "Commit batch size",
+        description = "Max messages per transaction when deliveryMode is TRANSACTED. Transactions are only committed between input messages, so all chunks of a message are committed together. Defaults to 1000."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> commitBatchSize = Property.ofValue(SolaceTransactedMessagePublisher.DEFAULT_COMMIT_BATCH_SIZE);
+
+    @Schema(
+        title = "Commit interval",
+        description = "Max time a transaction stays open while messages are published when deliveryMode is TRANSACTED. Defaults to 1 second."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> commitInterval = Property.ofValue(SolaceTransactedMessagePublisher.DEFAULT_COMMIT_INTERVAL);
+
     @Schema(
         title = "Message properties", description = """
             Optional properties applied to every message. Keys must be String and values String; supports Solace message properties.
@@ -142,53 +281,277 @@ public class Produce extends AbstractSolaceTask implements RunnableTask<Produce.
     @PluginProperty(group = "advanced")
     protected Property<Map<String, String>> messageProperties = Property.ofValue(new HashMap<>());
 
+    @Schema(
+        title = "Publishing parallelism",
+        description = """
+            Number of publishers used concurrently, each one serializing and publishing messages on its own thread. Defaults to 1.
+            Messages sharing the same orderingKeyProperty value are published in order by the same publisher; messages without a key may be published out of order.
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> parallelism = Property.ofValue(1);
+
+    @Schema(
+        title = "Ordering key property",
+        description = "Message property used to route messages to publishers when parallelism is greater than 1. Defaults to `JMSXGroupID`, the Solace partition key."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<String> orderingKeyProperty = Property.ofValue(SolacePartitionedMessagePublisher.DEFAULT_ORDERING_KEY_PROPERTY);
+
+    @Schema(
+        title = "Maximum messages per second",
+        description = "Publishing rate limit shared by all publishers, in messages per second. Unlimited by default."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Double> maxMessagesPerSecond;
+
+    @Schema(
+        title = "Maximum bytes per second",
+        description = "Publishing rate limit shared by all publishers, in serialized payload bytes per second. Unlimited by default."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Double> maxBytesPerSecond;
+
+    @Schema(
+        title = "Rate limit burst",
+        description = "Duration of the rate limit budget that can be consumed at once after an idle period. Defaults to 1 second."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> rateLimitBurst = Property.ofValue(RateLimiter.DEFAULT_BURST);
+
+    @Schema(
+        title = "Resumable publishing",
+        description = """
+            Periodically save, in the Kestra state store, the position up to which all messages were acknowledged, so that a retry skips the messages already published. Defaults to false.
+            When `from` is an internal storage file, a retry resumes directly at the saved byte offset. Only the unacknowledged tail is published again, which may still produce a few duplicates.
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> resumable = Property.ofValue(false);
+
+    @Schema(title = "Checkpoint interval", description = "Minimum time between two saved positions when resumable is true. Defaults to 10 seconds.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> checkpointInterval = Property.ofValue(Duration.ofSeconds(10));
+
+    @Schema(
+        title = "Checkpoint key",
+        description = "Key identifying the saved position when resumable is true. Defaults to the execution id, so that only retries within the same execution resume."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<String> checkpointKey = Property.ofExpression("{{ execution.id }}");
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        InputStreamProvider provider = new InputStreamProvider(runContext);
-
-        int totalSentMessages = Data.from(from)
-            .read(runContext)
-            .map(throwFunction(row ->
-            {
-                try (InputStream is = provider.get(row)) {
-                    return send(runContext, is).getMessagesCount();
+        final PublisherMetrics metrics = new PublisherMetrics();
+
+        Checkpoint checkpoint = new Checkpoint(0, 0L);
+        AckTracker tracker = null;
+        Checkpointer checkpointer = null;
+        if (runContext.render(resumable).as(Boolean.class).orElse(false)) {
+            final CheckpointStore store = new CheckpointStore(
+                runContext,
+                getId(),
+                runContext.render(checkpointKey).as(String.class).orElseThrow()
+            );
+            checkpoint = store.load().orElse(checkpoint);
+            tracker = new AckTracker(checkpoint.index());
+            checkpointer = new Checkpointer(
+                store,
+                tracker,
+                runContext.render(checkpointInterval).as(Duration.class).orElseThrow(),
+                runContext.logger()
+            );
+            if (checkpoint.index() > 0) {
+                runContext.logger().info("Resuming publishing from message {} (offset: {}).", checkpoint.index(), checkpoint.offset());
+            }
+        }
+
+        final PublishReceiptWriter receipts = runContext.render(storeReceipts).as(Boolean.class).orElse(false)
+            ? new PublishReceiptWriter(runContext.workingDir().createTempFile(".ion"))
+            : null;
+        final SolaceMessagePublisher sender = createPublisher(runContext, metrics, tracker, receipts);
+        final Map<String, String> additionalMessageProperties = runContext.render(messageProperties).asMap(String.class, String.class);
+
+        // connect and open the publisher once, then stream every row through it.
+        try (MessagingServiceLease lease = MessagingServiceFactory.lease(this, runContext); sender; receipts) {
+            sender.start(lease.service(), additionalMessageProperties);
+            final long start = System.nanoTime();
+
+            int totalSentMessages;
+            try {
+                totalSentMessages = sender.publishAll(readMessages(runContext, checkpoint, checkpointer));
+                sender.flush();
+            } catch (Exception e) {
+                if (checkpointer != null) {
+                    saveCheckpoint(runContext, checkpointer);
                 }
-            }))
-            .reduce(Integer::sum)
-            .blockOptional()
-            .orElse(0);
+                if (receipts != null) {
+                    storeFailedReceipts(runContext, receipts);
+                }
+                throw e;
+            }
+            if (checkpointer != null) {
+                checkpointer.complete();
+            }
+            URI receiptsUri = null;
+            if (receipts != null) {
+                receipts.close();
+                receiptsUri = runContext.storage().putFile(receipts.file().toFile());
+            }
+            final double elapsedSeconds = Math.max(1, System.nanoTime() - start) / 1_000_000_000d;
+
+            // rejected messages were read from the input but never handed to the broker.
+            totalSentMessages -= (int) metrics.rejectedMessages();
+            runContext.metric(Counter.of("messages", totalSentMessages));
+            runContext.metric(Counter.of("resumed.messages", checkpoint.index()));
+            runContext.metric(Counter.of("rejected.messages", metrics.rejectedMessages()));
+            runContext.metric(Timer.of("backpressure.duration", metrics.backPressureDuration()));
+            runContext.metric(Timer.of("throttle.duration", metrics.throttleDuration()));
+            runContext.metric(Counter.of("commits", metrics.commits()));
+            runContext.metric(Timer.of("commit.duration", metrics.commitDuration()));
+            runContext.metric(Counter.of("rollbacks", metrics.rollbacks()));
+            runContext.metric(Counter.of("bytes", metrics.publishedBytes()));
+            runContext.metric(Timer.of("serialization.duration", metrics.serializationDuration()));
+            if (metrics.ackLatencyCount() > 0) {
+                runContext.metric(Timer.of("ack.latency.p50", metrics.ackLatencyPercentile(50)));
+                runContext.metric(Timer.of("ack.latency.p95", metrics.ackLatencyPercentile(95)));
+                runContext.metric(Timer.of("ack.latency.p99", metrics.ackLatencyPercentile(99)));
+                runContext.metric(Timer.of("ack.latency.max", metrics.ackLatencyMax()));
+            }
+            // rates are only logged, as counters are summed across runs.
+            runContext.logger().info(
+                "Published {} messages in {} ms ({} messages/s, {} bytes/s).",
+                totalSentMessages,
+                Math.round(elapsedSeconds * 1000),
+                Math.round(totalSentMessages / elapsedSeconds),
+                Math.round(metrics.publishedBytes() / elapsedSeconds)
+            );
+            return new Output(totalSentMessages, receiptsUri);
+        }
+    }
+
+    private Flux<OutboundMessageObject> readMessages(final RunContext runContext,
+        final Checkpoint checkpoint,
+        final Checkpointer checkpointer) throws Exception {
+        if (checkpointer == null) {
+            // rows are converted as they are read, without being serialized back to bytes.
+            return Data.from(from)
+                .read(runContext)
+                .index((i, row) -> OutboundMessageObject.of(row, i));
+        }
+
+        final long first = checkpoint.index();
+        final String uri = from instanceof String value ? runContext.render(value) : null;
+        final Flux<OutboundMessageObject> messages;
+        if (uri != null && uri.startsWith("kestra://")) {
+            // internal storage files are read line by line, so that a retry can seek directly to the saved offset.
+            final InputStream is = runContext.storage().getFile(URI.create(uri));
+            final Flux<IonRowReader.Row> rows;
+            if (checkpoint.offset() != null) {
+                is.skipNBytes(checkpoint.offset());
+                checkpointer.recordOffset(first, checkpoint.offset());
+                rows = IonRowReader.read(is, first, checkpoint.offset());
+            } else {
+                rows = IonRowReader.read(is, 0, 0).skip(first);
+            }
+            messages = rows
+                .doOnNext(row -> checkpointer.recordOffset(row.index() + 1, row.nextOffset()))
+                .map(row -> OutboundMessageObject.of(row.value(), row.index()));
+        } else {
+            messages = Data.from(from)
+                .read(runContext)
+                .skip(first)
+                .index((i, row) -> OutboundMessageObject.of(row, first + i));
+        }
+        return messages.doOnNext(throwConsumer(unused -> checkpointer.maybeSave()));
+    }
 
-        return new Output(totalSentMessages);
+    private static void storeFailedReceipts(final RunContext runContext, final PublishReceiptWriter receipts) {
+        // a failed task has no outputs, so the receipts recorded so far are only reachable through the logs.
+        try {
+            receipts.close();
+            final URI uri = runContext.storage().putFile(receipts.file().toFile());
+            runContext.logger().warn("Publishing failed, receipts of the messages published so far were stored at: {}", uri);
+        } catch (Exception e) {
+            runContext.logger().warn("Failed to store publish receipts.", e);
+        }
     }
 
-    private Output send(final RunContext runContext, final InputStream stream) throws Exception {
-        final Serde serde = runContext.render(getMessageSerializer())
-            .as(Serdes.class)
-            .orElseThrow()
-            .create(runContext.render(getMessageSerializerProperties()).asMap(String.class, Object.class));
-
-        final Topic topic = Topic.of(runContext.render(topicDestination).as(String.class).orElseThrow());
-
-        AbstractSolaceDirectMessagePublisher sender = switch (runContext.render(deliveryMode).as(DeliveryModes.class).orElseThrow()) {
-            case DIRECT -> new SolaceDirectMessagePublisher(topic, serde, runContext.logger());
-            case PERSISTENT -> new SolacePersistentMessagePublisher(
-                topic,
-                serde,
-                runContext.logger(),
-                runContext.render(awaitAcknowledgementTimeout).as(Duration.class).orElseThrow()
-            );
+    private static void saveCheckpoint(final RunContext runContext, final Checkpointer checkpointer) {
+        try {
+            checkpointer.save();
+        } catch (Exception e) {
+            runContext.logger().warn("Failed to save checkpoint, a retry may publish messages again.", e);
+        }
+    }
+
+    private SolaceMessagePublisher createPublisher(final RunContext runContext,
+        final PublisherMetrics metrics,
+        final AckTracker tracker,
+        final PublishReceiptWriter receipts) throws Exception {
+        final Serdes serdes = runContext.render(getMessageSerializer()).as(Serdes.class).orElseThrow();
+        final Map<String, Object> serdeProperties = SerdeProperties.render(runContext, getMessageSerializerProperties());
+
+        final String topic = runContext.render(topicDestination).as(String.class).orElseThrow();
+        final DeliveryModes mode = runContext.render(deliveryMode).as(DeliveryModes.class).orElseThrow();
+        final Duration ackTimeout = runContext.render(awaitAcknowledgementTimeout).as(Duration.class).orElseThrow();
+        final int inFlightMessages = runContext.render(maxInFlightMessages).as(Integer.class).orElseThrow();
+        final BackPressureStrategies strategy = runContext.render(backPressureStrategy).as(BackPressureStrategies.class).orElseThrow();
+        final int bufferCapacity = runContext.render(backPressureBufferCapacity).as(Integer.class).orElseThrow();
+        final int transactionSize = runContext.render(commitBatchSize).as(Integer.class).orElseThrow();
+        final Duration transactionInterval = runContext.render(commitInterval).as(Duration.class).orElseThrow();
+
+        final PublisherContext context = PublisherContext.builder()
+            .logger(runContext.logger())
+            .metrics(metrics)
+            .compression(runContext.render(compression).as(CompressionCodecs.class).orElse(CompressionCodecs.NONE))
+            .compressionMinSize(runContext.render(compressionMinSize).as(Integer.class).orElse(0))
+            .chunkSize(runContext.render(chunkSize).as(Integer.class).orElse(0))
+            .rateLimiter(createRateLimiter(runContext))
+            .ackTracker(tracker)
+            .receipts(receipts)
+            .build();
+
+        // each publisher gets its own serde and topic resolver, as publishers may run concurrently.
+        final Supplier<AbstractSolaceDirectMessagePublisher> supplier = () ->
+        {
+            final Serde serde = serdes.create(serdeProperties);
+            final TopicResolver resolver = new TopicResolver(topic, TopicResolver.DEFAULT_CACHE_SIZE);
+            return switch (mode) {
+                case DIRECT -> new SolaceDirectMessagePublisher(resolver, serde, context, strategy, bufferCapacity);
+                case PERSISTENT -> new SolacePersistentMessagePublisher(resolver, serde, context, ackTimeout, inFlightMessages);
+                case TRANSACTED -> new SolaceTransactedMessagePublisher(resolver, serde, context, transactionSize, transactionInterval);
+            };
         };
 
-        MessagingService service = MessagingServiceFactory.create(this, runContext);
-        AbstractSolaceDirectMessagePublisher.SendResult result = sender.send(
-            stream,
-            service,
-            runContext.render(messageProperties).asMap(String.class, Object.class)
+        final int renderedParallelism = runContext.render(parallelism).as(Integer.class).orElse(1);
+        if (renderedParallelism <= 1) {
+            return supplier.get();
+        }
+        return new SolacePartitionedMessagePublisher(
+            supplier,
+            renderedParallelism,
+            runContext.render(orderingKeyProperty).as(String.class).orElse(null)
         );
+    }
 
-        runContext.metric(Counter.of("messages", result.totalSentMessages()));
-
-        return new Output(result.totalSentMessages());
+    private RateLimiter createRateLimiter(final RunContext runContext) throws Exception {
+        final Double messagesPerSecond = runContext.render(maxMessagesPerSecond).as(Double.class).orElse(null);
+        final Double bytesPerSecond = runContext.render(maxBytesPerSecond).as(Double.class).orElse(null);
+        if (messagesPerSecond == null && bytesPerSecond == null) {
+            return null;
+        }
+        return new RateLimiter(
+            messagesPerSecond,
+            bytesPerSecond,
+            runContext.render(rateLimitBurst).as(Duration.class).orElse(RateLimiter.DEFAULT_BURST)
+        );
     }
 
     @AllArgsConstructor
@@ -196,5 +559,8 @@ public class Produce extends AbstractSolaceTask implements RunnableTask<Produce.
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(title = "Total number of messages published by the task")
         private final Integer messagesCount;
+
+        @Schema(title = "URI of the Ion file holding the publish receipts, when storeReceipts is true")
+        private final URI receipts;
     }
 }
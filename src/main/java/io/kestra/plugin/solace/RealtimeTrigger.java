@@ -0,0 +1,253 @@
+package io.kestra.plugin.solace;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.RealtimeTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.services.TriggerService;
+import io.kestra.plugin.solace.client.MessagingServiceFactory;
+import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.serde.SerdeProperties;
+import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.receiver.ChunkAssembler;
+import io.kestra.plugin.solace.service.receiver.PayloadModes;
+import io.kestra.plugin.solace.service.receiver.QueueTypes;
+import io.kestra.plugin.solace.service.receiver.ReceiverContext;
+import io.kestra.plugin.solace.service.receiver.SolaceMessageStream;
+import io.kestra.plugin.solace.service.receiver.SolacePersistentMessageReceiver.InboundMessageObject;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * The {@link RealtimeTrigger} can be used for triggering one execution per message received from Solace.
+ */
+@Plugin(
+    examples = {
+        @Example(
+            title = "Trigger one execution per message received from a Solace queue.",
+            full = true,
+            code = {
+                """
+                    id: realtime_trigger_from_solace_queue
+                    namespace: company.team
+
+                    tasks:
+                      - id: hello
+                        type: io.kestra.plugin.core.log.Log
+                        message: Hello there! I received {{ trigger.payload }} from Solace!
+
+                    triggers:
+                      - id: realtime_from_solace
+                        type: io.kestra.plugin.solace.RealtimeTrigger
+                        host: localhost:55555
+                        username: admin
+                        password: "{{ secret('SOLACE_PASSWORD') }}"
+                        vpn: default
+                        messageDeserializer: JSON
+                        queueName: test_queue
+                        queueType: DURABLE_EXCLUSIVE
+                    """
+            }
+        )
+    }
+)
+@Schema(
+    title = "Trigger flow in real time from Solace queue",
+    description = """
+        Keeps a receiver bound to a Solace queue and starts one execution per message as soon as it arrives. Each message is acknowledged once its execution is emitted; on failure, the trigger reconnects with an exponential backoff and unacknowledged messages are redelivered.
+        To process messages in batches instead, use the io.kestra.plugin.solace.Trigger.
+        """
+)
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+public class RealtimeTrigger extends AbstractTrigger implements SolaceConnectionInterface, RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Message> {
+
+    // TASK'S PROPERTIES
+    @Schema(title = "Solace username")
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> username;
+
+    @Schema(title = "Solace password")
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> password;
+
+    @Schema(title = "Solace VPN", description = "VPN name to connect to. Defaults to `default`.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> vpn = Property.ofValue("default");
+
+    @Schema(title = "Solace host", description = "Broker hostname and port, for example `localhost:55555`.")
+    @PluginProperty(group = "connection")
+    private Property<String> host;
+
+    @Schema(title = "Connection properties", description = "Additional broker connection properties in key/value pairs.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Map<String, String>> properties = Property.ofValue(new HashMap<>());
+
+    @Schema(title = "Queue name", description = "Queue to consume from.")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> queueName;
+
+    @Schema(title = "Queue type", description = "Durability and access mode for the queue.")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<QueueTypes> queueType;
+
+    @Schema(title = "Message deserializer", description = "Serde used to decode payloads. Defaults to STRING.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Serdes> messageDeserializer = Property.ofValue(Serdes.STRING);
+
+    @Schema(title = "Deserializer properties", description = "Key/value configs passed to the deserializer.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Map<String, Object>> messageDeserializerProperties = Property.ofValue(new HashMap<>());
+
+    @Schema(title = "Message selector", description = "Solace selector expression to filter messages on headers/properties.")
+    @PluginProperty(group = "advanced")
+    private Property<String> messageSelector;
+
+    @Schema(title = "Payload mode", description = "DESERIALIZED, RAW_BYTES or RAW_STRING to skip payload parsing. Defaults to DESERIALIZED.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<PayloadModes> payloadMode = Property.ofValue(PayloadModes.DESERIALIZED);
+
+    @Schema(title = "Chunk reassembly buffer size", description = "Max bytes of message chunks kept in memory; further chunks are spilled to disk. Defaults to 64 MiB.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> chunkReassemblyBufferSize = Property.ofValue(ChunkAssembler.DEFAULT_MAX_BUFFERED_BYTES);
+
+    @Schema(title = "Chunk reassembly timeout", description = "Max time to wait for all chunks of a payload. Defaults to 1 minute.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> chunkReassemblyTimeout = Property.ofValue(ChunkAssembler.DEFAULT_TIMEOUT);
+
+    @Schema(title = "Minimum reconnection backoff", description = "Delay before reconnecting after a failure, doubled on each consecutive failure. Defaults to 1 second.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> reconnectMinBackoff = Property.ofValue(SolaceMessageStream.DEFAULT_MIN_BACKOFF);
+
+    @Schema(title = "Maximum reconnection backoff", description = "Max delay between two reconnection attempts. Defaults to 1 minute.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> reconnectMaxBackoff = Property.ofValue(SolaceMessageStream.DEFAULT_MAX_BACKOFF);
+
+    @Getter(AccessLevel.NONE)
+    private transient volatile SolaceMessageStream stream;
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        final RunContext runContext = conditionContext.getRunContext();
+
+        final Serde serde = runContext.render(messageDeserializer).as(Serdes.class).orElseThrow()
+            .create(SerdeProperties.render(runContext, messageDeserializerProperties));
+        final String renderedQueueName = runContext.render(queueName).as(String.class).orElseThrow();
+        final ReceiverContext receiverContext = ReceiverContext.builder()
+            .messageSelector(runContext.render(messageSelector).as(String.class).orElse(null))
+            .chunkBufferSize(runContext.render(chunkReassemblyBufferSize).as(Long.class).orElse(null))
+            .chunkTimeout(runContext.render(chunkReassemblyTimeout).as(Duration.class).orElse(null))
+            .chunkSpillDirectory(runContext.workingDir().path())
+            .payloadMode(runContext.render(payloadMode).as(PayloadModes.class).orElse(null))
+            .build();
+
+        stream = new SolaceMessageStream(serde, runContext.logger());
+        return Flux.from(stream.stream(
+                () -> MessagingServiceFactory.create(this, runContext),
+                runContext.render(queueType).as(QueueTypes.class).orElseThrow().get(renderedQueueName),
+                receiverContext,
+                runContext.render(reconnectMinBackoff).as(Duration.class).orElse(SolaceMessageStream.DEFAULT_MIN_BACKOFF),
+                runContext.render(reconnectMaxBackoff).as(Duration.class).orElse(SolaceMessageStream.DEFAULT_MAX_BACKOFF)
+            ))
+            .map(message -> TriggerService.generateRealtimeExecution(this, conditionContext, context, Message.of(message)));
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void kill() {
+        stop();
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void stop() {
+        // must be non-blocking, the stream completes once its pending receive times out.
+        if (stream != null) {
+            stream.stop();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Message implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Sender ID")
+        private final String senderId;
+
+        @Schema(title = "Sender timestamp, in milliseconds since epoch")
+        private final Long senderTimestamp;
+
+        @Schema(title = "Destination name")
+        private final String destinationName;
+
+        @Schema(title = "Application message ID")
+        private final String applicationMessageId;
+
+        @Schema(title = "Application message type")
+        private final String applicationMessageType;
+
+        @Schema(title = "Correlation ID")
+        private final String correlationId;
+
+        @Schema(title = "Whether the message was redelivered")
+        private final Boolean isRedelivered;
+
+        @Schema(title = "Message payload")
+        private final Object payload;
+
+        @Schema(title = "Message properties")
+        private final Map<String, String> properties;
+
+        static Message of(final InboundMessageObject message) {
+            return Message.builder()
+                .senderId(message.senderId())
+                .senderTimestamp(message.senderTimestamp())
+                .destinationName(message.destinationName())
+                .applicationMessageId(message.applicationMessageId())
+                .applicationMessageType(message.applicationMessageType())
+                .correlationId(message.correlationId())
+                .isRedelivered(message.isRedelivered())
+                .payload(message.payload())
+                .properties(message.properties())
+                .build();
+        }
+    }
+}
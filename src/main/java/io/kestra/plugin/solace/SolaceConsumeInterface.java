@@ -6,12 +6,14 @@ import java.util.Map;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.receiver.AcknowledgementModes;
+import io.kestra.plugin.solace.service.receiver.PayloadModes;
 import io.kestra.plugin.solace.service.receiver.QueueTypes;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 
-public interface SolaceConsumeInterface extends SolaceConnectionInterface {
+public interface SolaceConsumeInterface extends SolacePooledConnectionInterface {
 
     @Schema(
         title = "Queue name",
@@ -39,7 +41,10 @@ public interface SolaceConsumeInterface extends SolaceConnectionInterface {
 
     @Schema(
         title = "Deserializer properties",
-        description = "Key/value configs passed to the deserializer."
+        description = """
+            Key/value configs passed to the deserializer.
+            AVRO and PROTOBUF require the schema in `serializer.schema`, either inline or as an internal storage URI (`kestra://`); PROTOBUF also accepts the message type in `serializer.message-type`.
+            """
     )
     @PluginProperty(group = "advanced")
     Property<Map<String, Object>> getMessageDeserializerProperties();
@@ -64,4 +69,90 @@ public interface SolaceConsumeInterface extends SolaceConnectionInterface {
     )
     @PluginProperty(group = "advanced")
     Property<String> getMessageSelector();
+
+    @Schema(
+        title = "Chunk reassembly buffer size",
+        description = "Max bytes of message chunks kept in memory while reassembling chunked payloads; further chunks are spilled to disk. Defaults to 64 MiB."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Long> getChunkReassemblyBufferSize();
+
+    @Schema(
+        title = "Chunk reassembly timeout",
+        description = "Max time to wait for all chunks of a chunked payload; incomplete payloads are then discarded. Defaults to 1 minute."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> getChunkReassemblyTimeout();
+
+    @Schema(
+        title = "Acknowledgement mode",
+        description = """
+            When received messages are acknowledged. IMMEDIATE acks each message once received; BATCHED acks every acknowledgementBatchSize messages or acknowledgementInterval;
+            DEFERRED acks all messages only once the output file is stored, so that a failure at any point redelivers them. Defaults to IMMEDIATE.
+            With DEFERRED, maxMessages should not exceed the queue's max unacknowledged messages per flow, otherwise the broker stops delivering until maxDuration.
+            """
+    )
+    @PluginProperty(group = "execution")
+    Property<AcknowledgementModes> getAcknowledgementMode();
+
+    @Schema(
+        title = "Acknowledgement batch size",
+        description = "Number of messages acknowledged at once when acknowledgementMode is BATCHED. Defaults to 100."
+    )
+    @PluginProperty(group = "execution")
+    Property<Integer> getAcknowledgementBatchSize();
+
+    @Schema(
+        title = "Acknowledgement interval",
+        description = "Max time a message waits for its acknowledgement when acknowledgementMode is BATCHED. Defaults to 1 second."
+    )
+    @PluginProperty(group = "execution")
+    Property<Duration> getAcknowledgementInterval();
+
+    @Schema(
+        title = "Asynchronous receive",
+        description = """
+            Receive messages on the Solace dispatch thread into a buffer, so that network I/O overlaps with deserialization and file writes. Defaults to false.
+            The receiver is paused once receiveBufferCapacity messages are buffered, and resumed when half of them are processed. Messages still buffered at the end of a poll are redelivered.
+            """
+    )
+    @PluginProperty(group = "execution")
+    Property<Boolean> getAsyncReceive();
+
+    @Schema(
+        title = "Receive buffer capacity",
+        description = "Number of messages buffered before the receiver is paused when asyncReceive is true. Defaults to 1000."
+    )
+    @PluginProperty(group = "execution")
+    Property<Integer> getReceiveBufferCapacity();
+
+    @Schema(
+        title = "Deserialization parallelism",
+        description = """
+            Number of threads decompressing and deserializing payloads. Defaults to 1, which deserializes on the receiving thread.
+            Messages are still written to the output file and acknowledged in arrival order.
+            """
+    )
+    @PluginProperty(group = "execution")
+    Property<Integer> getDeserializationParallelism();
+
+    @Schema(
+        title = "Payload mode",
+        description = """
+            How payloads are written to the output. DESERIALIZED decodes them with the messageDeserializer; RAW_BYTES writes the payload bytes as is;
+            RAW_STRING writes them as a UTF-8 string, failing on invalid bytes. Raw modes skip parsing entirely, but still decompress payloads. Defaults to DESERIALIZED.
+            """
+    )
+    @PluginProperty(group = "advanced")
+    Property<PayloadModes> getPayloadMode();
+
+    @Schema(
+        title = "Idle timeout",
+        description = """
+            Return from the poll once no message has been received for this long, without waiting for maxMessages or maxDuration. Disabled by default.
+            The poll duration and exit reason are reported as the `poll.duration` and `poll.exits` metrics.
+            """
+    )
+    @PluginProperty(group = "execution")
+    Property<Duration> getIdleTimeout();
 }
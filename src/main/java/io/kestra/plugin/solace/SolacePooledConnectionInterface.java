@@ -0,0 +1,20 @@
+package io.kestra.plugin.solace;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Connection options of the tasks and triggers that can borrow their session from the shared pool.
+ */
+public interface SolacePooledConnectionInterface extends SolaceConnectionInterface {
+
+    @Schema(
+        title = "Connection pooling",
+        description = "Reuse a worker-wide session shared by tasks and triggers with the same host, VPN, credentials and properties instead of connecting on every run. Defaults to false."
+    )
+    @PluginProperty(group = "connection")
+    Property<Boolean> getConnectionPooling() throws IllegalVariableEvaluationException;
+}
@@ -8,11 +8,14 @@ import java.util.Optional;
 import org.slf4j.Logger;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.ExecutionTrigger;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.AbstractTrigger;
@@ -21,7 +24,12 @@ import io.kestra.core.models.triggers.TriggerContext;
 import io.kestra.core.models.triggers.TriggerOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.receiver.AcknowledgementModes;
+import io.kestra.plugin.solace.service.receiver.ChunkAssembler;
+import io.kestra.plugin.solace.service.receiver.MessageAcknowledger;
+import io.kestra.plugin.solace.service.receiver.PayloadModes;
 import io.kestra.plugin.solace.service.receiver.QueueTypes;
+import io.kestra.plugin.solace.service.receiver.ReceiveBuffer;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -61,6 +69,13 @@ import lombok.experimental.SuperBuilder;
                     """
             }
         )
+    },
+    metrics = {
+        @Metric(name = "poll.duration", description = "Time spent receiving messages", type = Timer.TYPE),
+        @Metric(name = "poll.exits", description = "Number of polls, tagged by exitReason: MAX_MESSAGES, MAX_DURATION or IDLE_TIMEOUT", type = Counter.TYPE),
+        @Metric(name = "connection.pool.hits", description = "Number of sessions borrowed from the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.misses", description = "Number of new sessions connected for the connection pool, when connectionPooling is true", type = Counter.TYPE),
+        @Metric(name = "connection.pool.evictions", description = "Number of pooled sessions evicted while borrowing a session, when connectionPooling is true", type = Counter.TYPE),
     }
 )
 @Schema(
@@ -101,6 +116,11 @@ public class Trigger extends AbstractTrigger implements SolaceConsumeInterface,
     @PluginProperty(group = "advanced")
     private Property<Map<String, String>> properties = Property.ofValue(new HashMap<>());
 
+    @Schema(title = "Connection pooling", description = "Reuse a worker-wide session between polls instead of connecting on every evaluation. Defaults to false.")
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    private Property<Boolean> connectionPooling = Property.ofValue(false);
+
     @Schema(title = "Queue name", description = "Queue to consume from.")
     @PluginProperty(group = "advanced")
     private Property<String> queueName;
@@ -133,6 +153,55 @@ public class Trigger extends AbstractTrigger implements SolaceConsumeInterface,
     @PluginProperty(group = "advanced")
     private Property<String> messageSelector;
 
+    @Schema(title = "Chunk reassembly buffer size", description = "Max bytes of message chunks kept in memory; further chunks are spilled to disk. Defaults to 64 MiB.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> chunkReassemblyBufferSize = Property.ofValue(ChunkAssembler.DEFAULT_MAX_BUFFERED_BYTES);
+
+    @Schema(title = "Chunk reassembly timeout", description = "Max time to wait for all chunks of a payload. Defaults to 1 minute.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> chunkReassemblyTimeout = Property.ofValue(ChunkAssembler.DEFAULT_TIMEOUT);
+
+    @Schema(title = "Acknowledgement mode", description = "IMMEDIATE, BATCHED, or DEFERRED until the batch file is stored. Defaults to IMMEDIATE.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<AcknowledgementModes> acknowledgementMode = Property.ofValue(AcknowledgementModes.IMMEDIATE);
+
+    @Schema(title = "Acknowledgement batch size", description = "Messages acknowledged at once in BATCHED mode. Defaults to 100.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> acknowledgementBatchSize = Property.ofValue(MessageAcknowledger.DEFAULT_BATCH_SIZE);
+
+    @Schema(title = "Acknowledgement interval", description = "Max wait before acknowledging in BATCHED mode. Defaults to 1 second.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> acknowledgementInterval = Property.ofValue(MessageAcknowledger.DEFAULT_INTERVAL);
+
+    @Schema(title = "Asynchronous receive", description = "Receive messages into a buffer on the Solace dispatch thread, overlapping network I/O with processing. Defaults to false.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> asyncReceive = Property.ofValue(false);
+
+    @Schema(title = "Receive buffer capacity", description = "Messages buffered before the receiver is paused when asyncReceive is true. Defaults to 1000.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> receiveBufferCapacity = Property.ofValue(ReceiveBuffer.DEFAULT_CAPACITY);
+
+    @Schema(title = "Deserialization parallelism", description = "Threads deserializing payloads; messages keep their arrival order. Defaults to 1.")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> deserializationParallelism = Property.ofValue(1);
+
+    @Schema(title = "Payload mode", description = "DESERIALIZED, RAW_BYTES or RAW_STRING to skip payload parsing. Defaults to DESERIALIZED.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<PayloadModes> payloadMode = Property.ofValue(PayloadModes.DESERIALIZED);
+
+    @Schema(title = "Idle timeout", description = "Return from the poll once no message has been received for this long. Disabled by default.")
+    @PluginProperty(group = "execution")
+    private Property<Duration> idleTimeout;
+
     /**
      * {@inheritDoc}
      **/
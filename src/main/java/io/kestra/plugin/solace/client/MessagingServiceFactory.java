@@ -1,34 +1,80 @@
 package io.kestra.plugin.solace.client;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import com.solace.messaging.MessagingService;
 import com.solace.messaging.config.SolaceProperties;
 import com.solace.messaging.config.profile.ConfigurationProfile;
 
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.solace.SolaceConnectionInterface;
+import io.kestra.plugin.solace.SolacePooledConnectionInterface;
 
 public final class MessagingServiceFactory {
 
     public static MessagingService create(final SolaceConnectionInterface config, RunContext runContext) throws Exception {
+        return connect(render(config, runContext));
+    }
+
+    /**
+     * Borrows a connected {@link MessagingService} for the given configuration.
+     * <p>
+     * When connection pooling is enabled, the service is taken from the shared {@link MessagingServicePool}
+     * and pool metrics (hits, misses and evictions) are reported to the given run context. Otherwise, a new service is connected and
+     * disconnected when the returned lease is closed.
+     *
+     * @param config The connection configuration.
+     * @param runContext The run context.
+     * @return a new {@link MessagingServiceLease}.
+     */
+    public static MessagingServiceLease lease(final SolacePooledConnectionInterface config, RunContext runContext) throws Exception {
+        final Map<String, String> properties = render(config, runContext);
+
+        if (!runContext.render(config.getConnectionPooling()).as(Boolean.class).orElse(false)) {
+            return new MessagingServiceLease(connect(properties), null, false);
+        }
+
+        final MessagingServicePool pool = MessagingServicePool.shared();
+        final long evictionsBefore = pool.stats().evictions();
+        final MessagingServiceLease lease = pool.acquire(properties, () -> connect(properties));
+        final MessagingServicePool.Stats stats = pool.stats();
+
+        runContext.metric(Counter.of("connection.pool.hits", lease.isReused() ? 1 : 0));
+        runContext.metric(Counter.of("connection.pool.misses", lease.isReused() ? 0 : 1));
+        // evictions made while this lease was acquired, e.g. to free a session slot.
+        runContext.metric(Counter.of("connection.pool.evictions", stats.evictions() - evictionsBefore));
+        // the number of active sessions is a point-in-time value, which cannot be summed across runs.
+        runContext.logger().debug("Solace connection pool: {}", stats);
+        return lease;
+    }
+
+    private static Map<String, String> render(final SolaceConnectionInterface config, RunContext runContext) throws Exception {
         Objects.requireNonNull(config, "Cannot create new MessagingService with null configuration.");
 
-        Properties properties = new Properties();
-        properties.setProperty(SolaceProperties.TransportLayerProperties.HOST, runContext.render(config.getHost()).as(String.class).orElseThrow());
-        properties.setProperty(SolaceProperties.ServiceProperties.VPN_NAME, runContext.render(config.getVpn()).as(String.class).orElseThrow());
+        Map<String, String> properties = new TreeMap<>();
+        properties.put(SolaceProperties.TransportLayerProperties.HOST, runContext.render(config.getHost()).as(String.class).orElseThrow());
+        properties.put(SolaceProperties.ServiceProperties.VPN_NAME, runContext.render(config.getVpn()).as(String.class).orElseThrow());
 
         runContext.render(config.getUsername()).as(String.class)
-            .ifPresent(val -> properties.setProperty(SolaceProperties.AuthenticationProperties.SCHEME_BASIC_USER_NAME, val));
+            .ifPresent(val -> properties.put(SolaceProperties.AuthenticationProperties.SCHEME_BASIC_USER_NAME, val));
 
         runContext.render(config.getPassword()).as(String.class)
-            .ifPresent(val -> properties.setProperty(SolaceProperties.AuthenticationProperties.SCHEME_BASIC_PASSWORD, val));
+            .ifPresent(val -> properties.put(SolaceProperties.AuthenticationProperties.SCHEME_BASIC_PASSWORD, val));
 
         var renderedProperties = runContext.render(config.getProperties()).asMap(String.class, String.class);
         if (!renderedProperties.isEmpty()) {
-            renderedProperties.forEach(properties::setProperty);
+            properties.putAll(renderedProperties);
         }
+        return properties;
+    }
+
+    private static MessagingService connect(final Map<String, String> config) {
+        Properties properties = new Properties();
+        properties.putAll(config);
 
         return MessagingService
             .builder(ConfigurationProfile.V1)
@@ -0,0 +1,63 @@
+package io.kestra.plugin.solace.client;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.solace.messaging.MessagingService;
+
+/**
+ * A connected {@link MessagingService} borrowed for the duration of a task run or a trigger evaluation.
+ * <p>
+ * Closing the lease either returns the service to the {@link MessagingServicePool} or disconnects it
+ * when the service is not pooled. Callers must never disconnect the leased service themselves.
+ */
+public final class MessagingServiceLease implements AutoCloseable {
+
+    private final MessagingService service;
+    private final MessagingServicePool pool;
+    private final boolean reused;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    MessagingServiceLease(final MessagingService service, final MessagingServicePool pool, final boolean reused) {
+        this.service = Objects.requireNonNull(service, "service cannot be null");
+        this.pool = pool;
+        this.reused = reused;
+    }
+
+    /**
+     * @return the connected {@link MessagingService}.
+     */
+    public MessagingService service() {
+        return service;
+    }
+
+    /**
+     * @return {@code true} if the service was already connected and borrowed from the pool.
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    /**
+     * @return {@code true} if the service is managed by a {@link MessagingServicePool}.
+     */
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    /**
+     * Releases the service - this method is idempotent.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (pool != null) {
+            pool.release(service);
+        } else {
+            service.disconnect();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package io.kestra.plugin.solace.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.solace.messaging.MessagingService;
+
+/**
+ * A worker-wide pool of reference-counted {@link MessagingService}.
+ * <p>
+ * Services are keyed by the full set of rendered connection properties (host, VPN, credentials and
+ * additional properties), so tasks and triggers pointing at the same broker with the same configuration
+ * share a single session. A service stays connected while it is leased and is disconnected once it has
+ * been idle for longer than the idle timeout. A service that is no longer connected is evicted when it
+ * is checked out.
+ * <p>
+ * The shared pool can be tuned through the {@code kestra.plugins.solace.pool.max-sessions} and
+ * {@code kestra.plugins.solace.pool.idle-timeout} (ISO-8601 duration) system properties.
+ * <p>
+ * Sessions are always disconnected outside the pool lock, as disconnecting blocks until the broker replies.
+ */
+public final class MessagingServicePool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MessagingServicePool.class);
+
+    public static final String MAX_SESSIONS_SYSTEM_PROPERTY = "kestra.plugins.solace.pool.max-sessions";
+    public static final String IDLE_TIMEOUT_SYSTEM_PROPERTY = "kestra.plugins.solace.pool.idle-timeout";
+
+    private static final int DEFAULT_MAX_SESSIONS = 64;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final class Holder {
+        private static final MessagingServicePool INSTANCE = new MessagingServicePool(
+            Integer.getInteger(MAX_SESSIONS_SYSTEM_PROPERTY, DEFAULT_MAX_SESSIONS),
+            Duration.parse(System.getProperty(IDLE_TIMEOUT_SYSTEM_PROPERTY, DEFAULT_IDLE_TIMEOUT.toString())),
+            DEFAULT_ACQUIRE_TIMEOUT
+        );
+    }
+
+    /**
+     * @return the worker-wide {@link MessagingServicePool}.
+     */
+    public static MessagingServicePool shared() {
+        return Holder.INSTANCE;
+    }
+
+    private final int maxSessions;
+    private final Duration idleTimeout;
+    private final Duration acquireTimeout;
+    private final ScheduledExecutorService evictor;
+
+    // all fields below are guarded by 'this'.
+    private final Map<Map<String, String>, Entry> entries = new HashMap<>();
+    private final Map<MessagingService, Entry> entriesByService = new IdentityHashMap<>();
+    private int pendingConnections = 0;
+    private boolean closed = false;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a new {@link MessagingServicePool} instance.
+     *
+     * @param maxSessions The maximum number of connected sessions.
+     * @param idleTimeout The time after which a session that is not leased is disconnected.
+     * @param acquireTimeout The maximum time to wait for a free session slot.
+     */
+    public MessagingServicePool(final int maxSessions, final Duration idleTimeout, final Duration acquireTimeout) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be greater than 0, was: " + maxSessions);
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeout = Objects.requireNonNull(idleTimeout, "idleTimeout cannot be null");
+        this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "acquireTimeout cannot be null");
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("solace-messaging-service-pool-evictor").factory()
+        );
+        long period = Math.max(1000, idleTimeout.toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connected service for the given connection properties, connecting a new one if needed.
+     *
+     * @param key The rendered connection properties.
+     * @param connector The function used to create and connect a new service.
+     * @return a new {@link MessagingServiceLease}.
+     */
+    public MessagingServiceLease acquire(final Map<String, String> key, final Connector connector) throws Exception {
+        final Map<String, String> immutableKey = Map.copyOf(key);
+        final long deadline = System.nanoTime() + acquireTimeout.toNanos();
+
+        final List<MessagingService> evicted = new ArrayList<>();
+        try {
+            synchronized (this) {
+                while (true) {
+                    if (closed) {
+                        throw new IllegalStateException("MessagingServicePool is closed.");
+                    }
+                    Entry entry = entries.get(immutableKey);
+                    if (entry != null && !entry.service.isConnected()) {
+                        LOG.debug("Evicting disconnected Solace session from pool.");
+                        evicted.add(remove(entry));
+                        evictions.incrementAndGet();
+                        entry = null;
+                    }
+
+                    if (entry != null) {
+                        entry.references++;
+                        hits.incrementAndGet();
+                        return new MessagingServiceLease(entry.service, this, true);
+                    }
+
+                    if (entries.size() + pendingConnections < maxSessions || evictLeastRecentlyUsedIdle(evicted)) {
+                        pendingConnections++;
+                        break;
+                    }
+
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        throw new TimeoutException(
+                            "Timeout while waiting for a free Solace session: the pool is limited to " + maxSessions + " sessions."
+                        );
+                    }
+                    wait(remaining);
+                }
+            }
+        } finally {
+            evicted.forEach(MessagingServicePool::disconnectQuietly);
+        }
+
+        // connect outside the lock, as it blocks until the session is established.
+        MessagingService service = null;
+        try {
+            service = connector.connect();
+        } finally {
+            synchronized (this) {
+                pendingConnections--;
+                if (service == null) {
+                    notifyAll();
+                }
+            }
+        }
+
+        MessagingService redundant = null;
+        try {
+            synchronized (this) {
+                if (closed) {
+                    redundant = service;
+                    throw new IllegalStateException("MessagingServicePool is closed.");
+                }
+                Entry existing = entries.get(immutableKey);
+                if (existing != null && existing.service.isConnected()) {
+                    // another caller connected the same key concurrently - keep its session.
+                    existing.references++;
+                    hits.incrementAndGet();
+                    redundant = service;
+                    return new MessagingServiceLease(existing.service, this, true);
+                } else if (existing != null) {
+                    redundant = remove(existing);
+                    evictions.incrementAndGet();
+                }
+                misses.incrementAndGet();
+                Entry entry = new Entry(immutableKey, service);
+                entry.references = 1;
+                entries.put(immutableKey, entry);
+                entriesByService.put(service, entry);
+                return new MessagingServiceLease(service, this, false);
+            }
+        } finally {
+            if (redundant != null) {
+                disconnectQuietly(redundant);
+            }
+        }
+    }
+
+    /**
+     * Returns a service previously borrowed from this pool.
+     *
+     * @param service The service to release.
+     */
+    void release(final MessagingService service) {
+        synchronized (this) {
+            Entry entry = entriesByService.get(service);
+            if (entry != null) {
+                entry.references--;
+                entry.lastReleasedAt = System.currentTimeMillis();
+                if (entry.references == 0) {
+                    notifyAll();
+                }
+                return;
+            }
+        }
+        // the service was evicted while it was leased.
+        disconnectQuietly(service);
+    }
+
+    /**
+     * Stops the idle eviction and disconnects all the sessions not currently leased.
+     * <p>
+     * Sessions still leased are disconnected once released.
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        final List<MessagingService> idle = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                iterator.remove();
+                entriesByService.remove(entry.service);
+                if (entry.references == 0) {
+                    idle.add(entry.service);
+                }
+            }
+            notifyAll();
+        }
+        idle.forEach(MessagingServicePool::disconnectQuietly);
+    }
+
+    /**
+     * @return a snapshot of this pool statistics.
+     */
+    public synchronized Stats stats() {
+        int active = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.references > 0) {
+                active++;
+            }
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), active, entries.size() - active);
+    }
+
+    private void evictIdle() {
+        final List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.references == 0 && now - entry.lastReleasedAt >= idleTimeout.toMillis()) {
+                    iterator.remove();
+                    entriesByService.remove(entry.service);
+                    evicted.add(entry);
+                }
+            }
+            if (!evicted.isEmpty()) {
+                evictions.addAndGet(evicted.size());
+                notifyAll();
+            }
+        }
+        evicted.forEach(entry -> disconnectQuietly(entry.service));
+    }
+
+    // must be called while holding the lock - the evicted service is added to the given list, to be disconnected.
+    private boolean evictLeastRecentlyUsedIdle(final List<MessagingService> evicted) {
+        return entries.values().stream()
+            .filter(entry -> entry.references == 0)
+            .min(Comparator.comparingLong(entry -> entry.lastReleasedAt))
+            .map(entry ->
+            {
+                evicted.add(remove(entry));
+                evictions.incrementAndGet();
+                return true;
+            })
+            .orElse(false);
+    }
+
+    // must be called while holding the lock - returns the service, to be disconnected once the lock is released.
+    private MessagingService remove(final Entry entry) {
+        entries.remove(entry.key);
+        entriesByService.remove(entry.service);
+        return entry.service;
+    }
+
+    private static void disconnectQuietly(final MessagingService service) {
+        try {
+            service.disconnect();
+        } catch (Exception e) {
+            LOG.debug("Failed to disconnect pooled Solace session.", e);
+        }
+    }
+
+    private static final class Entry {
+        private final Map<String, String> key;
+        private final MessagingService service;
+        private int references;
+        private long lastReleasedAt = System.currentTimeMillis();
+
+        private Entry(final Map<String, String> key, final MessagingService service) {
+            this.key = key;
+            this.service = service;
+        }
+    }
+
+    /**
+     * Creates and connects a new {@link MessagingService}.
+     */
+    @FunctionalInterface
+    public interface Connector {
+
+        MessagingService connect() throws Exception;
+    }
+
+    /**
+     * Pool statistics.
+     *
+     * @param hits The number of checkouts served by an already connected session.
+     * @param misses The number of checkouts that required a new connection.
+     * @param evictions The number of sessions disconnected because they were idle or unhealthy.
+     * @param activeSessions The number of sessions currently leased.
+     * @param idleSessions The number of sessions connected but not leased.
+     */
+    public record Stats(long hits, long misses, long evictions, int activeSessions, int idleSessions) {
+    }
+}
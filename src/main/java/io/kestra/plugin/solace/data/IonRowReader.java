@@ -0,0 +1,110 @@
+package io.kestra.plugin.solace.data;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the rows of an internal-storage Ion file, one value per line, keeping track of the byte offset of each row
+ * so that reading can later resume from any row without parsing the preceding ones.
+ */
+public final class IonRowReader {
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofIon();
+
+    private IonRowReader() {
+    }
+
+    /**
+     * Reads the rows of the given stream.
+     *
+     * @param inputStream The stream, positioned at the given offset - closed once all rows are read.
+     * @param index The index of the first row to read.
+     * @param offset The byte offset of the first row to read.
+     * @return the rows.
+     */
+    public static Flux<Row> read(final InputStream inputStream, final long index, final long offset) {
+        return Flux.using(
+            () -> new BufferedInputStream(inputStream, FileSerde.BUFFER_SIZE),
+            is -> Flux.generate(
+                () -> new Position(index, offset),
+                (position, sink) ->
+                {
+                    try {
+                        Row row = next(is, position);
+                        if (row == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(row);
+                        }
+                    } catch (IOException e) {
+                        sink.error(new UncheckedIOException("Error reading row " + position.index + ".", e));
+                    }
+                    return position;
+                }
+            ),
+            is ->
+            {
+                try {
+                    is.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        );
+    }
+
+    private static Row next(final InputStream is, final Position position) throws IOException {
+        final ByteArrayOutputStream line = position.line;
+        while (true) {
+            line.reset();
+            long read = 0;
+            int b;
+            while ((b = is.read()) != -1 && b != '\n') {
+                line.write(b);
+                read++;
+            }
+            if (b == -1 && read == 0) {
+                return null;
+            }
+            position.offset += read + (b == '\n' ? 1 : 0);
+            if (read == 0) {
+                continue; // blank line
+            }
+            final Row row = new Row(position.index, position.offset, MAPPER.readValue(line.toByteArray(), Map.class));
+            position.index++;
+            return row;
+        }
+    }
+
+    /**
+     * A row read from a file.
+     *
+     * @param index The row index.
+     * @param nextOffset The byte offset at which the next row starts.
+     * @param value The row value.
+     */
+    public record Row(long index, long nextOffset, Map<?, ?> value) {
+    }
+
+    private static final class Position {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private long index;
+        private long offset;
+
+        private Position(final long index, final long offset) {
+            this.index = index;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Base class for {@link Serde} backed by a Jackson {@link ObjectMapper}.
+ * <p>
+ * Objects are written into an output buffer reused from one message to the next, so serializing a message only
+ * allocates the returned array, which is handed to the outbound message as is.
+ * <p>
+ * This class is not thread-safe for serialization - each publisher must use its own instance. Deserialization
+ * only uses the immutable reader, so a single instance can deserialize messages concurrently.
+ */
+public abstract class AbstractJacksonSerde implements Serde {
+
+    private final ObjectMapper objectMapper;
+    private final String format;
+    private final OutputBuffer buffer = new OutputBuffer();
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    /**
+     * Creates a new {@link AbstractJacksonSerde} instance.
+     *
+     * @param objectMapper The mapper used to read and write objects.
+     * @param format The data format name, used in error messages.
+     */
+    protected AbstractJacksonSerde(final ObjectMapper objectMapper, final String format) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper cannot be null");
+        this.format = Objects.requireNonNull(format, "format cannot be null");
+        this.reader = objectMapper.reader();
+        this.writer = objectMapper.writer();
+    }
+
+    protected ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    protected String format() {
+        return format;
+    }
+
+    /**
+     * Sets the reader and the writer used for all subsequent messages.
+     *
+     * @param reader The reader.
+     * @param writer The writer.
+     */
+    protected void use(final ObjectReader reader, final ObjectWriter writer) {
+        this.reader = Objects.requireNonNull(reader, "reader cannot be null");
+        this.writer = Objects.requireNonNull(writer, "writer cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public byte[] serialize(Object data) {
+        if (data == null)
+            return null;
+        buffer.reset();
+        try {
+            writer.writeValue(buffer, data);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Error serializing data object into " + format + ".", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public JsonNode deserialize(byte[] data) {
+        if (data == null)
+            return null;
+        try {
+            return reader.readTree(data);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deserializing " + format + " into object.", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.kestra.plugin.solace.serde;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Base class for {@link Serde} whose data format requires a schema.
+ * <p>
+ * The schema is passed as text through the {@link #SCHEMA_CONFIG_NAME} config. Compiled schemas, and the
+ * readers and writers bound to them, are cached by schema fingerprint for the lifetime of the worker, so
+ * they are neither rebuilt for every message nor for every task run.
+ */
+public abstract class AbstractSchemaSerde extends AbstractJacksonSerde {
+
+    public static final String SCHEMA_CONFIG_NAME = "serializer.schema";
+
+    static final int MAX_CACHED_SCHEMAS = 256;
+
+    private static final Map<String, Codec> CODECS = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Codec> eldest) {
+                return size() > MAX_CACHED_SCHEMAS;
+            }
+        }
+    );
+
+    /**
+     * Creates a new {@link AbstractSchemaSerde} instance.
+     *
+     * @param objectMapper The mapper used to read and write objects.
+     * @param format The data format name, used in error messages.
+     */
+    protected AbstractSchemaSerde(final ObjectMapper objectMapper, final String format) {
+        super(objectMapper, format);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void configure(Map<String, Object> configs) {
+        final String schema = Optional
+            .ofNullable(configs.get(SCHEMA_CONFIG_NAME))
+            .map(Object::toString)
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Missing '" + SCHEMA_CONFIG_NAME + "' property, required by the " + format() + " serde."
+            ));
+
+        final String fingerprint = format() + ":" + fingerprint(schema + "\n" + cacheKey(configs));
+        final Codec codec = CODECS.computeIfAbsent(fingerprint, unused ->
+        {
+            FormatSchema compiled = compile(schema, configs);
+            return new Codec(objectMapper().reader(compiled), objectMapper().writer(compiled));
+        });
+        use(codec.reader(), codec.writer());
+    }
+
+    /**
+     * Compiles the given schema.
+     *
+     * @param schema The schema text.
+     * @param configs The serde configs.
+     * @return the compiled {@link FormatSchema}.
+     */
+    protected abstract FormatSchema compile(String schema, Map<String, Object> configs);
+
+    /**
+     * Gets the configs, other than the schema, that change the compiled schema.
+     *
+     * @param configs The serde configs.
+     * @return a key identifying these configs - empty by default.
+     */
+    protected String cacheKey(Map<String, Object> configs) {
+        return "";
+    }
+
+    static int cachedSchemas() {
+        return CODECS.size();
+    }
+
+    private static String fingerprint(final String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Codec(ObjectReader reader, ObjectWriter writer) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+
+/**
+ * A {@link Serde} for serializing/deserializing objects from and to Apache Avro, using the
+ * schema passed through the {@link #SCHEMA_CONFIG_NAME} config.
+ */
+public class AvroSerde extends AbstractSchemaSerde {
+
+    private static final AvroMapper OBJECT_MAPPER = AvroMapper.builder().build();
+
+    /**
+     * Creates a new {@link AvroSerde} instance.
+     */
+    public AvroSerde() {
+        super(OBJECT_MAPPER, "Avro");
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected FormatSchema compile(String schema, Map<String, Object> configs) {
+        try {
+            return OBJECT_MAPPER.schemaFrom(schema);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid Avro schema.", e);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.nio.ByteBuffer;
 
 /**
  * A {@link Serde} for serializing/deserializing bytes array.
+ * <p>
+ * Bytes are never copied when the data already is a byte array or a heap {@link ByteBuffer} spanning its whole
+ * backing array. Other buffers (slices, direct or read-only buffers) are copied once.
  */
 public class ByteArraySerde implements Serde {
 
@@ -16,7 +19,7 @@ public class ByteArraySerde implements Serde {
             return null;
 
         if (data instanceof ByteBuffer buffer)
-            return buffer.array();
+            return toByteArray(buffer);
         if (data instanceof byte[] array) {
             return array;
         }
@@ -34,4 +37,22 @@ public class ByteArraySerde implements Serde {
             return null;
         return ByteBuffer.wrap(data);
     }
+
+    /**
+     * Gets the remaining bytes of the given buffer, without changing its position.
+     *
+     * @param buffer The buffer.
+     * @return the backing array when it holds exactly the remaining bytes, otherwise a copy of them.
+     */
+    static byte[] toByteArray(final ByteBuffer buffer) {
+        if (buffer.hasArray()
+            && buffer.arrayOffset() == 0
+            && buffer.position() == 0
+            && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
 }
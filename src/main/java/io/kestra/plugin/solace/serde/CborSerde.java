@@ -0,0 +1,19 @@
+package io.kestra.plugin.solace.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * A {@link Serde} for serializing/deserializing objects from and to CBOR.
+ */
+public class CborSerde extends AbstractJacksonSerde {
+
+    private static final ObjectMapper OBJECT_MAPPER = CBORMapper.builder().build();
+
+    /**
+     * Creates a new {@link CborSerde} instance.
+     */
+    public CborSerde() {
+        super(OBJECT_MAPPER, "CBOR");
+    }
+}
@@ -0,0 +1,143 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Supported codecs for compressing message payloads.
+ * <p>
+ * Compressed messages are marked with the {@link #MESSAGE_PROPERTY} user property holding the codec name,
+ * so that receivers can decompress them transparently whatever the {@link Serde} used.
+ */
+public enum CompressionCodecs {
+
+    NONE {
+        @Override
+        protected OutputStream wrap(OutputStream os) {
+            return os;
+        }
+
+        @Override
+        protected InputStream wrap(InputStream is) {
+            return is;
+        }
+    },
+    GZIP {
+        @Override
+        protected OutputStream wrap(OutputStream os) throws IOException {
+            return new GZIPOutputStream(os);
+        }
+
+        @Override
+        protected InputStream wrap(InputStream is) throws IOException {
+            return new GZIPInputStream(is);
+        }
+    },
+    LZ4 {
+        @Override
+        protected OutputStream wrap(OutputStream os) throws IOException {
+            return new LZ4FrameOutputStream(os);
+        }
+
+        @Override
+        protected InputStream wrap(InputStream is) throws IOException {
+            return new LZ4FrameInputStream(is);
+        }
+    },
+    ZSTD {
+        @Override
+        protected OutputStream wrap(OutputStream os) throws IOException {
+            return new ZstdOutputStream(os);
+        }
+
+        @Override
+        protected InputStream wrap(InputStream is) throws IOException {
+            return new ZstdInputStream(is);
+        }
+    };
+
+    /**
+     * The message property used to mark compressed messages.
+     */
+    public static final String MESSAGE_PROPERTY = "kestra.compression";
+
+    protected abstract OutputStream wrap(OutputStream os) throws IOException;
+
+    protected abstract InputStream wrap(InputStream is) throws IOException;
+
+    /**
+     * Compresses the given bytes.
+     *
+     * @param data The bytes to compress - must not be {@code null}.
+     * @return the compressed bytes.
+     */
+    public byte[] compress(final byte[] data) {
+        if (this == NONE) {
+            return data;
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(32, data.length / 2));
+            try (OutputStream os = wrap(buffer)) {
+                os.write(data);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Error compressing payload with " + name() + ".", e);
+        }
+    }
+
+    /**
+     * Decompresses the given bytes.
+     *
+     * @param data The bytes to decompress - must not be {@code null}.
+     * @return the decompressed bytes.
+     */
+    public byte[] decompress(final byte[] data) {
+        if (this == NONE) {
+            return data;
+        }
+        try (InputStream is = wrap(new ByteArrayInputStream(data))) {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Error decompressing payload with " + name() + ".", e);
+        }
+    }
+
+    /**
+     * Decompresses the given bytes according to the codec marked on a received message.
+     *
+     * @param data The received bytes - can be {@code null}.
+     * @param codec The value of the {@link #MESSAGE_PROPERTY} property - can be {@code null}.
+     * @return the decompressed bytes.
+     * @throws IllegalArgumentException if the codec is not supported.
+     */
+    public static byte[] decompress(final byte[] data, final String codec) {
+        if (data == null || codec == null) {
+            return data;
+        }
+        return of(codec).decompress(data);
+    }
+
+    private static CompressionCodecs of(final String codec) {
+        for (CompressionCodecs value : values()) {
+            if (value.name().equalsIgnoreCase(codec)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Unsupported compression codec '" + codec + "' in message property '" + MESSAGE_PROPERTY + "', expected one of: " + Arrays.toString(values())
+        );
+    }
+}
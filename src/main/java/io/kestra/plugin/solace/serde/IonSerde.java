@@ -1,9 +1,6 @@
 package io.kestra.plugin.solace.serde;
 
-import java.io.IOException;
-
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.kestra.core.serializers.JacksonMapper;
@@ -11,7 +8,7 @@ import io.kestra.core.serializers.JacksonMapper;
 /**
  * A {@link Serde} for serializing/deserializing objects from and to Amazon Ion format.
  */
-public class IonSerde implements Serde {
+public class IonSerde extends AbstractJacksonSerde {
 
     private final static ObjectMapper OBJECT_MAPPER = JacksonMapper.ofIon()
         .setSerializationInclusion(JsonInclude.Include.ALWAYS);
@@ -20,33 +17,6 @@ public class IonSerde implements Serde {
      * Creates a new {@link IonSerde} instance.
      */
     public IonSerde() {
-    }
-
-    /**
-     * {@inheritDoc}
-     **/
-    @Override
-    public byte[] serialize(Object data) {
-        if (data == null)
-            return null;
-        try {
-            return OBJECT_MAPPER.writeValueAsBytes(data);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error serializing data object into Ion.", e);
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     **/
-    @Override
-    public Object deserialize(byte[] data) {
-        if (data == null)
-            return null;
-        try {
-            return OBJECT_MAPPER.readTree(data);
-        } catch (IOException e) {
-            throw new RuntimeException("Error deserializing Ion into object.", e);
-        }
+        super(OBJECT_MAPPER, "Ion");
     }
 }
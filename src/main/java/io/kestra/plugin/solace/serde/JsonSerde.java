@@ -1,16 +1,12 @@
 package io.kestra.plugin.solace.serde;
 
-import java.io.IOException;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
 /**
  * A {@link Serde} for JSON.
  */
-public class JsonSerde implements Serde {
+public class JsonSerde extends AbstractJacksonSerde {
 
     private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
 
@@ -18,33 +14,6 @@ public class JsonSerde implements Serde {
      * Creates a new {@link JsonSerde} instance.
      */
     public JsonSerde() {
-    }
-
-    /**
-     * {@inheritDoc}
-     **/
-    @Override
-    public byte[] serialize(Object data) {
-        if (data == null)
-            return null;
-        try {
-            return OBJECT_MAPPER.writeValueAsBytes(data);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error serializing JSON message", e);
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     **/
-    @Override
-    public JsonNode deserialize(byte[] data) {
-        if (data == null)
-            return null;
-        try {
-            return OBJECT_MAPPER.readTree(data);
-        } catch (IOException e) {
-            throw new RuntimeException("Error deserializing JSON message", e);
-        }
+        super(OBJECT_MAPPER, "JSON");
     }
 }
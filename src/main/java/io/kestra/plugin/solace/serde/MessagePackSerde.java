@@ -0,0 +1,20 @@
+package io.kestra.plugin.solace.serde;
+
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link Serde} for serializing/deserializing objects from and to MessagePack.
+ */
+public class MessagePackSerde extends AbstractJacksonSerde {
+
+    private static final ObjectMapper OBJECT_MAPPER = new MessagePackMapper();
+
+    /**
+     * Creates a new {@link MessagePackSerde} instance.
+     */
+    public MessagePackSerde() {
+        super(OBJECT_MAPPER, "MessagePack");
+    }
+}
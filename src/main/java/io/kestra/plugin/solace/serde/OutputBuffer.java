@@ -0,0 +1,65 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Unsynchronized growable {@link OutputStream} whose backing array is kept between messages.
+ * <p>
+ * After a large message, the backing array is shrunk back on {@link #reset()} so that a single outlier
+ * does not retain memory for the lifetime of the publisher.
+ */
+final class OutputBuffer extends OutputStream {
+
+    static final int DEFAULT_INITIAL_CAPACITY = 4096;
+    static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private byte[] buffer;
+    private int count;
+
+    OutputBuffer() {
+        this.buffer = new byte[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    /**
+     * Discards the written bytes, keeping the backing array unless it grew above {@link #MAX_RETAINED_CAPACITY}.
+     */
+    void reset() {
+        count = 0;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[DEFAULT_INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * @return a new array holding exactly the written bytes.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void write(final int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+/**
+ * A {@link Serde} for serializing/deserializing objects from and to Protocol Buffers, using the
+ * {@code .proto} definition passed through the {@link #SCHEMA_CONFIG_NAME} config.
+ */
+public class ProtobufSerde extends AbstractSchemaSerde {
+
+    public static final String MESSAGE_TYPE_CONFIG_NAME = "serializer.message-type";
+
+    private static final ProtobufMapper OBJECT_MAPPER = ProtobufMapper.builder().build();
+
+    /**
+     * Creates a new {@link ProtobufSerde} instance.
+     */
+    public ProtobufSerde() {
+        super(OBJECT_MAPPER, "Protobuf");
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected FormatSchema compile(String schema, Map<String, Object> configs) {
+        final NativeProtobufSchema nativeSchema;
+        try {
+            nativeSchema = ProtobufSchemaLoader.std.parseNative(schema);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid Protobuf schema.", e);
+        }
+        // the first message type of the definition is used unless one is explicitly configured.
+        return messageType(configs)
+            .map(nativeSchema::forType)
+            .orElseGet(nativeSchema::forFirstType);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected String cacheKey(Map<String, Object> configs) {
+        return messageType(configs).orElse("");
+    }
+
+    private static Optional<String> messageType(final Map<String, Object> configs) {
+        return Optional.ofNullable(configs.get(MESSAGE_TYPE_CONFIG_NAME)).map(Object::toString);
+    }
+}
@@ -0,0 +1,39 @@
+package io.kestra.plugin.solace.serde;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Utility class for rendering the configs of a {@link Serde}.
+ */
+public final class SerdeProperties {
+
+    private static final String KESTRA_SCHEME = "kestra://";
+
+    private SerdeProperties() {
+    }
+
+    /**
+     * Renders the given serde configs, replacing a schema given as an internal-storage URI with the file content.
+     *
+     * @param runContext The {@link RunContext}.
+     * @param property The serde configs.
+     * @return the rendered configs.
+     */
+    public static Map<String, Object> render(final RunContext runContext,
+        final Property<Map<String, Object>> property) throws Exception {
+        final Map<String, Object> configs = new HashMap<>(runContext.render(property).asMap(String.class, Object.class));
+        if (configs.get(AbstractSchemaSerde.SCHEMA_CONFIG_NAME) instanceof String schema && schema.startsWith(KESTRA_SCHEME)) {
+            try (InputStream is = runContext.storage().getFile(URI.create(schema))) {
+                configs.put(AbstractSchemaSerde.SCHEMA_CONFIG_NAME, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return configs;
+    }
+}
@@ -12,7 +12,12 @@ public enum Serdes {
     STRING(StringSerde::new),
     BINARY(ByteArraySerde::new),
     ION(IonSerde::new),
-    JSON(JsonSerde::new);
+    JSON(JsonSerde::new),
+    CBOR(CborSerde::new),
+    SMILE(SmileSerde::new),
+    MESSAGEPACK(MessagePackSerde::new),
+    AVRO(AvroSerde::new),
+    PROTOBUF(ProtobufSerde::new);
 
     private final Supplier<Serde> supplier;
 
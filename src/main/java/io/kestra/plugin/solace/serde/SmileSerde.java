@@ -0,0 +1,19 @@
+package io.kestra.plugin.solace.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * A {@link Serde} for serializing/deserializing objects from and to Smile.
+ */
+public class SmileSerde extends AbstractJacksonSerde {
+
+    private static final ObjectMapper OBJECT_MAPPER = SmileMapper.builder().build();
+
+    /**
+     * Creates a new {@link SmileSerde} instance.
+     */
+    public SmileSerde() {
+        super(OBJECT_MAPPER, "Smile");
+    }
+}
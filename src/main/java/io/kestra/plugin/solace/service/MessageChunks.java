@@ -0,0 +1,28 @@
+package io.kestra.plugin.solace.service;
+
+/**
+ * Message properties used to split a large payload into chunks and to reassemble it on the receiving side.
+ * <p>
+ * All chunks of a payload share the same group, carry their zero-based sequence and the total number of chunks,
+ * as well as all the properties of the original message.
+ */
+public final class MessageChunks {
+
+    /**
+     * The message property holding the identifier shared by all chunks of a payload.
+     */
+    public static final String GROUP_PROPERTY = "kestra.chunk.group";
+
+    /**
+     * The message property holding the zero-based index of a chunk.
+     */
+    public static final String SEQUENCE_PROPERTY = "kestra.chunk.sequence";
+
+    /**
+     * The message property holding the total number of chunks of a payload.
+     */
+    public static final String TOTAL_PROPERTY = "kestra.chunk.total";
+
+    private MessageChunks() {
+    }
+}
@@ -0,0 +1,10 @@
+package io.kestra.plugin.solace.service.checkpoint;
+
+/**
+ * Position up to which all input messages were acknowledged.
+ *
+ * @param index The number of leading input messages acknowledged, i.e. the index of the next message to publish.
+ * @param offset The byte offset of the next message in the input file - {@code null} when the input is not a file.
+ */
+public record Checkpoint(long index, Long offset) {
+}
@@ -0,0 +1,65 @@
+package io.kestra.plugin.solace.service.checkpoint;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Stores the {@link Checkpoint} of a task in the Kestra state store.
+ */
+public final class CheckpointStore {
+
+    private static final String STATE_NAME = "solace-produce-checkpoint";
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    private final RunContext runContext;
+    private final String taskId;
+    private final String key;
+
+    /**
+     * Creates a new {@link CheckpointStore} instance.
+     *
+     * @param runContext The {@link RunContext}.
+     * @param taskId The identifier of the task.
+     * @param key The key identifying the input being published, e.g. the execution id.
+     */
+    public CheckpointStore(final RunContext runContext, final String taskId, final String key) {
+        this.runContext = Objects.requireNonNull(runContext, "runContext cannot be null");
+        this.taskId = Objects.requireNonNull(taskId, "taskId cannot be null");
+        this.key = Objects.requireNonNull(key, "key cannot be null");
+    }
+
+    /**
+     * @return the last saved checkpoint, if any.
+     */
+    public Optional<Checkpoint> load() throws Exception {
+        try (InputStream is = runContext.stateStore().getState(STATE_NAME, taskId, key)) {
+            return Optional.of(MAPPER.readValue(is, Checkpoint.class));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves the given checkpoint, replacing the previous one.
+     *
+     * @param checkpoint The checkpoint.
+     */
+    public void save(final Checkpoint checkpoint) throws IOException {
+        runContext.stateStore().putState(STATE_NAME, taskId, key, MAPPER.writeValueAsBytes(checkpoint));
+    }
+
+    /**
+     * Deletes the saved checkpoint, if any.
+     */
+    public void delete() throws IOException {
+        runContext.stateStore().deleteState(STATE_NAME, taskId, key);
+    }
+}
@@ -0,0 +1,97 @@
+package io.kestra.plugin.solace.service.checkpoint;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+
+import io.kestra.plugin.solace.service.publisher.AckTracker;
+
+/**
+ * Periodically saves the position of the last contiguously acknowledged input message.
+ * <p>
+ * Byte offsets of the input rows are kept only until the rows are acknowledged - they are pruned each time an offset
+ * is recorded, so memory is bounded by the number of in-flight messages rather than by the save interval.
+ */
+public final class Checkpointer {
+
+    private final CheckpointStore store;
+    private final AckTracker tracker;
+    private final long intervalInNanos;
+    private final Logger logger;
+    private final ConcurrentNavigableMap<Long, Long> offsets = new ConcurrentSkipListMap<>();
+
+    private long lastSaveNanos = System.nanoTime();
+    private long lastSavedIndex = -1;
+
+    /**
+     * Creates a new {@link Checkpointer} instance.
+     *
+     * @param store The store to save checkpoints into.
+     * @param tracker The tracker of acknowledged messages.
+     * @param interval The minimum time between two saves.
+     * @param logger The logger.
+     */
+    public Checkpointer(final CheckpointStore store,
+        final AckTracker tracker,
+        final Duration interval,
+        final Logger logger) {
+        this.store = Objects.requireNonNull(store, "store cannot be null");
+        this.tracker = Objects.requireNonNull(tracker, "tracker cannot be null");
+        this.intervalInNanos = Objects.requireNonNull(interval, "interval cannot be null").toNanos();
+        this.logger = Objects.requireNonNull(logger, "logger cannot be null");
+    }
+
+    /**
+     * Records the byte offset at which the given input message starts.
+     *
+     * @param index The input message index.
+     * @param offset The byte offset.
+     */
+    public void recordOffset(final long index, final long offset) {
+        offsets.put(index, offset);
+        // offsets of acknowledged rows are not needed anymore, except the one of the next checkpoint.
+        offsets.headMap(tracker.committed()).clear();
+    }
+
+    /**
+     * Saves a checkpoint if the interval elapsed since the last one.
+     */
+    public void maybeSave() throws Exception {
+        if (System.nanoTime() - lastSaveNanos >= intervalInNanos) {
+            save();
+        }
+    }
+
+    /**
+     * Saves a checkpoint, unless nothing was acknowledged since the last one.
+     */
+    public void save() throws Exception {
+        lastSaveNanos = System.nanoTime();
+        final long index = tracker.committed();
+        if (index == lastSavedIndex) {
+            return;
+        }
+        final Long offset = offsets.get(index);
+        offsets.headMap(index).clear();
+        store.save(new Checkpoint(index, offset));
+        lastSavedIndex = index;
+        logger.debug("Saved checkpoint at message {} (offset: {}).", index, offset);
+    }
+
+    /**
+     * @return the number of byte offsets currently kept.
+     */
+    int pendingOffsets() {
+        return offsets.size();
+    }
+
+    /**
+     * Deletes the checkpoint once all input messages are acknowledged.
+     */
+    public void complete() throws Exception {
+        store.delete();
+    }
+}
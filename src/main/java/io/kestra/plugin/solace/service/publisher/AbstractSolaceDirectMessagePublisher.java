@@ -2,10 +2,9 @@ package io.kestra.plugin.solace.service.publisher;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Properties;
 
 import org.slf4j.Logger;
 
@@ -13,36 +12,54 @@ import com.solace.messaging.MessagingService;
 import com.solace.messaging.publisher.DirectMessagePublisher;
 import com.solace.messaging.publisher.MessagePublisher;
 import com.solace.messaging.publisher.OutboundMessage;
+import com.solace.messaging.resources.Topic;
 
-import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.solace.serde.Serde;
 
 import reactor.core.publisher.Flux;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
-public abstract class AbstractSolaceDirectMessagePublisher {
+/**
+ * Base class for publishing messages to Solace through a single {@link MessagePublisher}.
+ */
+public abstract class AbstractSolaceDirectMessagePublisher implements SolaceMessagePublisher {
 
     public static final long DEFAULT_TERMINATE_TIMEOUT = Duration.ofMinutes(1).toMillis();
+    private final TopicResolver topicResolver;
     private final Serde serde;
-    private final Logger logger;
+    private final PublisherContext context;
+
+    private MessagePublisher publisher;
+    private PublishPlan plan;
 
     /**
      * Creates a new {@link AbstractSolaceDirectMessagePublisher} instance.
      *
+     * @param topicResolver The resolver used to get the topic of each message.
      * @param serde The serde to be used for converting message payload to bytes.
+     * @param context The options shared by all publishers of a run.
      */
-    public AbstractSolaceDirectMessagePublisher(Serde serde, Logger logger) {
+    public AbstractSolaceDirectMessagePublisher(TopicResolver topicResolver, Serde serde, PublisherContext context) {
+        this.topicResolver = Objects.requireNonNull(topicResolver, "topicResolver cannot be null");
         this.serde = Objects.requireNonNull(serde, "serde cannot be null");
-        this.logger = Objects.requireNonNull(logger, "logger cannot be null");
+        this.context = Objects.requireNonNull(context, "context cannot be null");
     }
 
     protected Logger logger() {
-        return logger;
+        return context.logger();
+    }
+
+    protected PublisherMetrics metrics() {
+        return context.metrics();
+    }
+
+    protected PublishReceiptWriter receipts() {
+        return context.receipts();
     }
 
     /**
-     * Publishes all messages from the given input stream.
+     * Publishes all messages from the given input stream, then closes the publisher and disconnects the service.
      *
      * @param inputStream The input stream used to retrieve messages to be sent.
      * @param messagingService The {@link MessagingService} used to build a new {@link DirectMessagePublisher}.
@@ -52,36 +69,89 @@ public abstract class AbstractSolaceDirectMessagePublisher {
     public SendResult send(InputStream inputStream,
         MessagingService messagingService,
         Map<String, String> additionalMessageProperties) {
-
-        MessagePublisher publisher = open(messagingService);
-        logger.debug("Connected to Solace instance name {}", publisher.publisherInfo().getInstanceName());
         try {
-            Flux<OutboundMessageObject> flowable = FileSerde.readAll(inputStream, OutboundMessageObject.class);
-            final Integer numSentMessages = flowable
-                .map(throwFunction(outboundMessageObject ->
-                {
-                    final OutboundMessage message = buildOutboundMessage(
-                        messagingService,
-                        outboundMessageObject,
-                        additionalMessageProperties
-                    );
-                    publish(message);
-                    return 1;
-                }))
-                .reduce(Integer::sum)
-                .block();
-            terminate(publisher);
+            start(messagingService, additionalMessageProperties);
+            final int numSentMessages = publishAll(inputStream);
+            flush();
             return new SendResult(numSentMessages);
         } catch (Exception e) {
-            terminate(publisher);
             throw new RuntimeException(e);
         } finally {
+            close();
             messagingService.disconnect();
         }
     }
 
-    private void terminate(MessagePublisher publisher) {
-        publisher.terminate(DEFAULT_TERMINATE_TIMEOUT);
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void start(MessagingService messagingService,
+        Map<String, String> additionalMessageProperties) {
+        if (publisher != null) {
+            throw new IllegalStateException("Publisher is already started.");
+        }
+        Objects.requireNonNull(messagingService, "messagingService cannot be null");
+        this.plan = new PublishPlan(messagingService, serde, context, additionalMessageProperties);
+        this.publisher = open(messagingService);
+        logger().debug("Connected to Solace instance name {}", publisher.publisherInfo().getInstanceName());
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public int publishAll(Flux<OutboundMessageObject> messages) throws Exception {
+        return messages
+            .map(throwFunction(outboundMessageObject ->
+            {
+                publishMessage(outboundMessageObject);
+                return 1;
+            }))
+            .reduce(Integer::sum)
+            .blockOptional()
+            .orElse(0);
+    }
+
+    /**
+     * Serializes and publishes a single message.
+     *
+     * @param object The message to be published.
+     */
+    public void publishMessage(OutboundMessageObject object) throws Exception {
+        if (publisher == null) {
+            throw new IllegalStateException("Publisher is not started.");
+        }
+
+        final Topic topic = topicResolver.resolve(object);
+        final long index = object.index();
+        final AckTracker tracker = index >= 0 ? context.ackTracker() : null;
+        plan.build(object, (message, size) ->
+        {
+            if (context.rateLimiter() != null) {
+                metrics().recordThrottle(context.rateLimiter().acquire(size));
+            }
+            if (tracker != null) {
+                tracker.sent(index);
+            }
+            publish(message, topic, index);
+            metrics().recordPublishedBytes(size);
+        });
+        if (tracker != null) {
+            tracker.sealed(index);
+        }
+        onMessagePublished(index);
+    }
+
+    /**
+     * Terminates the publisher, if started.
+     */
+    @Override
+    public void close() {
+        if (publisher != null) {
+            publisher.terminate(DEFAULT_TERMINATE_TIMEOUT);
+            publisher = null;
+        }
     }
 
     /**
@@ -91,24 +161,39 @@ public abstract class AbstractSolaceDirectMessagePublisher {
 
     /**
      * Publishes the given message - this method should block until message is published.
+     * <p>
+     * Implementations must call {@link #acknowledge(long)} once the message is handled by the broker.
      *
      * @param message The message to be published.
+     * @param topic The topic to publish the message to.
+     * @param index The index of the input message, or {@code -1} when unknown.
      */
-    protected abstract void publish(final OutboundMessage message) throws Exception;
+    protected abstract void publish(final OutboundMessage message, final Topic topic, final long index) throws Exception;
 
-    private OutboundMessage buildOutboundMessage(MessagingService messagingService,
-        OutboundMessageObject object,
-        Map<String, String> additionalMessageProperties) {
-        Properties properties = new Properties();
-        Optional.ofNullable(additionalMessageProperties).ifPresent(properties::putAll);
-        Optional.ofNullable(object.properties()).ifPresent(properties::putAll);
-
-        byte[] payloadAsBytes = Optional.ofNullable(object.payload())
-            .map(serde::serialize)
-            .orElseGet(() -> new byte[0]);
-        return messagingService
-            .messageBuilder()
-            .build(payloadAsBytes, properties);
+    /**
+     * Invoked once all the messages built from an input message, i.e. all its chunks, are published - does nothing by default.
+     *
+     * @param index The index of the input message, or {@code -1} when unknown.
+     */
+    protected void onMessagePublished(final long index) throws Exception {
+    }
+
+    /**
+     * Records that a message published for the given input message was handled by the broker.
+     *
+     * @param index The index of the input message, or {@code -1} when unknown.
+     */
+    protected void acknowledge(final long index) {
+        if (index >= 0 && context.ackTracker() != null) {
+            context.ackTracker().acked(index);
+        }
+    }
+
+    /**
+     * Blocks until all published messages are handled by the broker - does nothing by default.
+     */
+    @Override
+    public void flush() throws Exception {
     }
 
     /**
@@ -121,7 +206,45 @@ public abstract class AbstractSolaceDirectMessagePublisher {
 
     /**
      * Represents a serializable {@link com.solace.messaging.receiver.InboundMessage}.
+     *
+     * @param payload The message payload.
+     * @param properties The message properties - can be {@code null}.
+     * @param topic The topic to publish the message to - when {@code null}, the publisher default topic is used.
+     * @param index The position of the message in the input, or {@code -1} when unknown.
      */
-    public record OutboundMessageObject(Object payload, Map<String, String> properties) {
+    public record OutboundMessageObject(Object payload, Map<String, String> properties, String topic, long index) {
+
+        public OutboundMessageObject(Object payload, Map<String, String> properties, String topic) {
+            this(payload, properties, topic, -1);
+        }
+
+        /**
+         * Creates a new {@link OutboundMessageObject} from an already deserialized row - no bytes are copied.
+         *
+         * @param row The row with the {@code payload}, {@code properties} and {@code topic} fields.
+         * @return a new {@link OutboundMessageObject}.
+         */
+        public static OutboundMessageObject of(final Map<?, ?> row) {
+            return of(row, -1);
+        }
+
+        /**
+         * Creates a new {@link OutboundMessageObject} from an already deserialized row - no bytes are copied.
+         *
+         * @param row The row with the {@code payload}, {@code properties} and {@code topic} fields.
+         * @param index The position of the row in the input.
+         * @return a new {@link OutboundMessageObject}.
+         */
+        public static OutboundMessageObject of(final Map<?, ?> row, final long index) {
+            Map<String, String> properties = null;
+            if (row.get("properties") instanceof Map<?, ?> map) {
+                properties = new HashMap<>(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    properties.put(String.valueOf(entry.getKey()), entry.getValue() != null ? String.valueOf(entry.getValue()) : null);
+                }
+            }
+            Object topic = row.get("topic");
+            return new OutboundMessageObject(row.get("payload"), properties, topic != null ? topic.toString() : null, index);
+        }
     }
 }
@@ -0,0 +1,89 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Tracks the acknowledgements of published messages to compute the position up to which all input messages are
+ * acknowledged, whatever the order acknowledgements are received in.
+ * <p>
+ * An input message may be published as several messages (e.g. chunks): it is only acknowledged once all of them
+ * are sent and acknowledged. This class is thread-safe.
+ */
+public final class AckTracker {
+
+    private final Map<Long, Pending> pending = new HashMap<>();
+    private final TreeSet<Long> completed = new TreeSet<>();
+    private long committed;
+
+    /**
+     * Creates a new {@link AckTracker} instance.
+     *
+     * @param start The index of the first input message to be published.
+     */
+    public AckTracker(final long start) {
+        if (start < 0) {
+            throw new IllegalArgumentException("start must be greater than or equal to 0, was: " + start);
+        }
+        this.committed = start;
+    }
+
+    /**
+     * Records that one more message was sent for the given input message.
+     *
+     * @param index The input message index.
+     */
+    public synchronized void sent(final long index) {
+        pending.computeIfAbsent(index, unused -> new Pending()).outstanding++;
+    }
+
+    /**
+     * Records that all messages were sent for the given input message.
+     *
+     * @param index The input message index.
+     */
+    public synchronized void sealed(final long index) {
+        Pending state = pending.computeIfAbsent(index, unused -> new Pending());
+        state.sealed = true;
+        completeIfDone(index, state);
+    }
+
+    /**
+     * Records that one message sent for the given input message was acknowledged.
+     *
+     * @param index The input message index.
+     */
+    public synchronized void acked(final long index) {
+        Pending state = pending.get(index);
+        if (state == null) {
+            return;
+        }
+        state.outstanding--;
+        completeIfDone(index, state);
+    }
+
+    /**
+     * @return the number of leading input messages fully acknowledged, i.e. the index to resume from.
+     */
+    public synchronized long committed() {
+        return committed;
+    }
+
+    private void completeIfDone(final long index, final Pending state) {
+        if (!state.sealed || state.outstanding > 0) {
+            return;
+        }
+        pending.remove(index);
+        completed.add(index);
+        while (!completed.isEmpty() && completed.first() == committed) {
+            completed.pollFirst();
+            committed++;
+        }
+    }
+
+    private static final class Pending {
+        private int outstanding;
+        private boolean sealed;
+    }
+}
@@ -0,0 +1,19 @@
+package io.kestra.plugin.solace.service.publisher;
+
+/**
+ * Strategies applied when the publisher buffer is full.
+ */
+public enum BackPressureStrategies {
+    /**
+     * Blocks the publishing thread until there is room in the buffer.
+     */
+    WAIT,
+    /**
+     * Rejects the message when the buffer is full - rejected messages are skipped and counted.
+     */
+    REJECT,
+    /**
+     * Buffers messages without bound - the buffer capacity is ignored.
+     */
+    ELASTIC
+}
@@ -5,5 +5,9 @@ package io.kestra.plugin.solace.service.publisher;
  */
 public enum DeliveryModes {
     DIRECT,
-    PERSISTENT
+    PERSISTENT,
+    /**
+     * Persistent messages published and committed in batches within local transactions.
+     */
+    TRANSACTED
 }
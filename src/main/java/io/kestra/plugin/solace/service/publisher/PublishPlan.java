@@ -0,0 +1,129 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.UUID;
+
+import com.solace.messaging.MessagingService;
+import com.solace.messaging.publisher.OutboundMessage;
+import com.solace.messaging.publisher.OutboundMessageBuilder;
+
+import io.kestra.plugin.solace.serde.CompressionCodecs;
+import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.service.MessageChunks;
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+/**
+ * Precompiled plan for building {@link OutboundMessage}.
+ * <p>
+ * The {@link OutboundMessageBuilder} is created once with all the task-level message properties already applied,
+ * so building a message only costs the payload serialization and, when present, the message own properties.
+ * Payloads reaching the configured minimum size are compressed and marked with the
+ * {@link CompressionCodecs#MESSAGE_PROPERTY} property. Payloads still larger than the configured chunk size are
+ * then split into several messages tagged with the {@link MessageChunks} properties.
+ * <p>
+ * This class is not thread-safe - each publisher must use its own plan.
+ */
+final class PublishPlan {
+
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    private final OutboundMessageBuilder builder;
+    private final Serde serde;
+    private final CompressionCodecs compression;
+    private final int compressionMinSize;
+    private final int chunkSize;
+    private final PublisherMetrics metrics;
+
+    // reused for every message, as the builder copies properties into the message being built.
+    private final Properties messageProperties = new Properties();
+
+    /**
+     * Creates a new {@link PublishPlan} instance.
+     *
+     * @param messagingService The {@link MessagingService} used to create the message builder.
+     * @param serde The serde to be used for converting message payload to bytes.
+     * @param context The options used to compress and split payloads.
+     * @param constantProperties The properties applied to every message - can be {@code null}.
+     */
+    PublishPlan(final MessagingService messagingService,
+        final Serde serde,
+        final PublisherContext context,
+        final Map<String, String> constantProperties) {
+        this.serde = Objects.requireNonNull(serde, "serde cannot be null");
+        this.compression = context.compression();
+        this.compressionMinSize = context.compressionMinSize();
+        this.chunkSize = context.chunkSize();
+        this.metrics = context.metrics();
+        this.builder = messagingService.messageBuilder();
+        if (constantProperties != null && !constantProperties.isEmpty()) {
+            Properties properties = new Properties();
+            properties.putAll(constantProperties);
+            builder.fromProperties(properties);
+        }
+    }
+
+    /**
+     * Builds the {@link OutboundMessage} for the given object, or all its chunks when the payload is too large.
+     *
+     * @param object The message to build.
+     * @param sink The sink receiving the built messages, in order.
+     */
+    void build(final OutboundMessageObject object, final MessageSink sink) throws Exception {
+        final long start = System.nanoTime();
+        byte[] payload = object.payload() != null ? serde.serialize(object.payload()) : EMPTY_PAYLOAD;
+
+        final boolean compressed = compression != CompressionCodecs.NONE && payload.length >= compressionMinSize;
+        if (compressed) {
+            payload = compression.compress(payload);
+        }
+        metrics.recordSerialization(System.nanoTime() - start);
+
+        final Map<String, String> properties = object.properties();
+        if (chunkSize <= 0 || payload.length <= chunkSize) {
+            if (!compressed && (properties == null || properties.isEmpty())) {
+                sink.accept(builder.build(payload), payload.length);
+            } else {
+                sink.accept(builder.build(payload, prepare(properties, compressed)), payload.length);
+            }
+            return;
+        }
+
+        final int total = (payload.length + chunkSize - 1) / chunkSize;
+        final String group = UUID.randomUUID().toString();
+        for (int sequence = 0; sequence < total; sequence++) {
+            final int from = sequence * chunkSize;
+            final byte[] chunk = Arrays.copyOfRange(payload, from, Math.min(payload.length, from + chunkSize));
+
+            // every chunk carries the message properties, so that all chunks are routed the same way.
+            final Properties chunkProperties = prepare(properties, compressed);
+            chunkProperties.put(MessageChunks.GROUP_PROPERTY, group);
+            chunkProperties.put(MessageChunks.SEQUENCE_PROPERTY, String.valueOf(sequence));
+            chunkProperties.put(MessageChunks.TOTAL_PROPERTY, String.valueOf(total));
+            sink.accept(builder.build(chunk, chunkProperties), chunk.length);
+        }
+    }
+
+    private Properties prepare(final Map<String, String> properties, final boolean compressed) {
+        // message properties only apply to this message and take precedence over the constant ones.
+        messageProperties.clear();
+        if (properties != null) {
+            messageProperties.putAll(properties);
+        }
+        if (compressed) {
+            messageProperties.put(CompressionCodecs.MESSAGE_PROPERTY, compression.name());
+        }
+        return messageProperties;
+    }
+
+    /**
+     * Receives the messages built by a {@link PublishPlan}.
+     */
+    @FunctionalInterface
+    interface MessageSink {
+
+        void accept(OutboundMessage message, int size) throws Exception;
+    }
+}
@@ -0,0 +1,150 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.kestra.core.serializers.FileSerde;
+
+/**
+ * Writes one Ion line per publish receipt to a file, from a background thread.
+ * <p>
+ * Receipts are handed over through an unbounded queue, so that recording a receipt never blocks the publish loop
+ * or the Solace receipt listener. If writing fails, further receipts are dropped and the error is thrown on close.
+ */
+public final class PublishReceiptWriter implements AutoCloseable {
+
+    private static final Object POISON_PILL = new Object();
+    private static final long DEFAULT_JOIN_TIMEOUT = Duration.ofMinutes(1).toMillis();
+
+    private final Path file;
+    private final OutputStream output;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new {@link PublishReceiptWriter} instance, and starts its writer thread.
+     *
+     * @param file The file to write receipts to.
+     */
+    public PublishReceiptWriter(final Path file) throws IOException {
+        this.file = Objects.requireNonNull(file, "file cannot be null");
+        this.output = new BufferedOutputStream(Files.newOutputStream(file), FileSerde.BUFFER_SIZE);
+        this.thread = Thread.ofPlatform()
+            .daemon()
+            .name("solace-publish-receipts")
+            .start(this::run);
+    }
+
+    /**
+     * @return the file receipts are written to.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Records the receipt of a published message - never blocks.
+     *
+     * @param receipt The receipt.
+     */
+    public void record(final Receipt receipt) {
+        if (!closed && error.get() == null) {
+            queue.offer(receipt);
+        }
+    }
+
+    private void run() {
+        final List<Object> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                for (Object item : batch) {
+                    if (item == POISON_PILL) {
+                        return;
+                    }
+                    FileSerde.write(output, item);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            error.compareAndSet(null, e);
+            queue.clear();
+        }
+    }
+
+    /**
+     * Writes all pending receipts, then stops the writer thread and closes the file.
+     * <p>
+     * Receipts recorded after this method is called are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.offer(POISON_PILL);
+        try {
+            thread.join(DEFAULT_JOIN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+            error.compareAndSet(null, new IllegalStateException("Publish receipts were not written within " + Duration.ofMillis(DEFAULT_JOIN_TIMEOUT) + "."));
+        }
+        output.close();
+
+        Throwable throwable = error.get();
+        if (throwable != null) {
+            throw new IOException("Failed to write publish receipts.", throwable);
+        }
+    }
+
+    /**
+     * The receipt of a published message.
+     *
+     * @param index The position of the message in the input, or {@code -1} when unknown.
+     * @param applicationMessageId The application message ID - can be {@code null}.
+     * @param persisted Whether the broker acknowledged the message as persisted.
+     * @param ackLatencyMicros The time between publishing the message and receiving its receipt, in microseconds.
+     * @param error The error message, when the message was not persisted - can be {@code null}.
+     */
+    public record Receipt(long index, String applicationMessageId, boolean persisted, long ackLatencyMicros, String error) {
+
+        /**
+         * Creates a new {@link Receipt}.
+         *
+         * @param index The position of the message in the input, or {@code -1} when unknown.
+         * @param applicationMessageId The application message ID - can be {@code null}.
+         * @param latencyNanos The acknowledgement latency, in nanoseconds.
+         * @param error The publish error - {@code null} when the message was persisted.
+         * @return a new {@link Receipt}.
+         */
+        public static Receipt of(final long index, final String applicationMessageId, final long latencyNanos, final Throwable error) {
+            return new Receipt(
+                index,
+                applicationMessageId,
+                error == null,
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+                error != null ? Objects.requireNonNullElse(error.getMessage(), error.getClass().getName()) : null
+            );
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+
+import io.kestra.plugin.solace.serde.CompressionCodecs;
+
+import lombok.Builder;
+
+/**
+ * Wraps all options shared by the publishers of a single task run.
+ *
+ * @param logger The logger.
+ * @param metrics The metrics to record into - defaults to a new {@link PublisherMetrics}.
+ * @param compression The codec used to compress payloads - defaults to {@link CompressionCodecs#NONE}.
+ * @param compressionMinSize The minimum payload size, in bytes, for a payload to be compressed.
+ * @param chunkSize The maximum payload size, in bytes, above which a payload is split into chunks - {@code 0} to disable.
+ * @param rateLimiter The rate limiter shared by all publishers - can be {@code null}.
+ * @param ackTracker The tracker notified of published and acknowledged messages - can be {@code null}.
+ * @param receipts The writer receiving the receipt of each PERSISTENT message - can be {@code null}.
+ */
+@Builder
+public record PublisherContext(Logger logger,
+    PublisherMetrics metrics,
+    CompressionCodecs compression,
+    int compressionMinSize,
+    int chunkSize,
+    RateLimiter rateLimiter,
+    AckTracker ackTracker,
+    PublishReceiptWriter receipts) {
+
+    public PublisherContext {
+        Objects.requireNonNull(logger, "logger cannot be null");
+        metrics = metrics != null ? metrics : new PublisherMetrics();
+        compression = compression != null ? compression : CompressionCodecs.NONE;
+        if (chunkSize < 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than or equal to 0, was: " + chunkSize);
+        }
+    }
+
+    /**
+     * Creates a new {@link PublisherContext} with default options.
+     *
+     * @param logger The logger.
+     * @return a new {@link PublisherContext}.
+     */
+    public static PublisherContext of(final Logger logger) {
+        return PublisherContext.builder().logger(logger).build();
+    }
+}
@@ -0,0 +1,144 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Thread-safe metrics collected while publishing messages - a single instance can be shared by concurrent publishers.
+ * <p>
+ * Recording is lock-free: counters are {@link LongAdder} and latencies go to a {@link ConcurrentHistogram},
+ * whose recording is wait-free.
+ */
+public final class PublisherMetrics {
+
+    // latencies are tracked from 1 microsecond to 1 hour with 2 significant digits, i.e. a 1% precision.
+    private static final long LOWEST_TRACKABLE_LATENCY = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.HOURS.toNanos(1);
+
+    private final LongAdder backPressureNanos = new LongAdder();
+    private final LongAdder rejectedMessages = new LongAdder();
+    private final LongAdder throttleNanos = new LongAdder();
+    private final LongAdder publishedBytes = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder commitNanos = new LongAdder();
+    private final LongAdder rollbacks = new LongAdder();
+    private final LongAdder serializationNanos = new LongAdder();
+    private final Histogram ackLatencies = new ConcurrentHistogram(LOWEST_TRACKABLE_LATENCY, HIGHEST_TRACKABLE_LATENCY, 2);
+
+    void recordBackPressure(final long nanos) {
+        backPressureNanos.add(nanos);
+    }
+
+    void recordRejectedMessage() {
+        rejectedMessages.increment();
+    }
+
+    void recordThrottle(final long nanos) {
+        throttleNanos.add(nanos);
+    }
+
+    void recordPublishedBytes(final long bytes) {
+        publishedBytes.add(bytes);
+    }
+
+    void recordCommit(final long nanos) {
+        commits.increment();
+        commitNanos.add(nanos);
+    }
+
+    void recordRollback() {
+        rollbacks.increment();
+    }
+
+    void recordSerialization(final long nanos) {
+        serializationNanos.add(nanos);
+    }
+
+    void recordAckLatency(final long nanos) {
+        ackLatencies.recordValue(Math.max(LOWEST_TRACKABLE_LATENCY, Math.min(nanos, HIGHEST_TRACKABLE_LATENCY)));
+    }
+
+    /**
+     * @return the total time spent blocked on a full publisher buffer.
+     */
+    public Duration backPressureDuration() {
+        return Duration.ofNanos(backPressureNanos.sum());
+    }
+
+    /**
+     * @return the number of messages rejected because the publisher buffer was full.
+     */
+    public long rejectedMessages() {
+        return rejectedMessages.sum();
+    }
+
+    /**
+     * @return the total time spent waiting for the rate limiter.
+     */
+    public Duration throttleDuration() {
+        return Duration.ofNanos(throttleNanos.sum());
+    }
+
+    /**
+     * @return the total number of payload bytes handed to the publishers.
+     */
+    public long publishedBytes() {
+        return publishedBytes.sum();
+    }
+
+    /**
+     * @return the number of committed transactions.
+     */
+    public long commits() {
+        return commits.sum();
+    }
+
+    /**
+     * @return the total time spent committing transactions.
+     */
+    public Duration commitDuration() {
+        return Duration.ofNanos(commitNanos.sum());
+    }
+
+    /**
+     * @return the number of rolled back transactions.
+     */
+    public long rollbacks() {
+        return rollbacks.sum();
+    }
+
+    /**
+     * @return the total time spent serializing and compressing payloads.
+     */
+    public Duration serializationDuration() {
+        return Duration.ofNanos(serializationNanos.sum());
+    }
+
+    /**
+     * @return the number of recorded acknowledgement latencies.
+     */
+    public long ackLatencyCount() {
+        return ackLatencies.getTotalCount();
+    }
+
+    /**
+     * Gets the given percentile of the acknowledgement latencies.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return the latency - {@link Duration#ZERO} when no latency was recorded.
+     */
+    public Duration ackLatencyPercentile(final double percentile) {
+        return Duration.ofNanos(ackLatencies.getTotalCount() > 0 ? ackLatencies.getValueAtPercentile(percentile) : 0);
+    }
+
+    /**
+     * @return the highest acknowledgement latency - {@link Duration#ZERO} when no latency was recorded.
+     */
+    public Duration ackLatencyMax() {
+        return Duration.ofNanos(ackLatencies.getTotalCount() > 0 ? ackLatencies.getMaxValue() : 0);
+    }
+}
@@ -0,0 +1,86 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter bounding the number of messages and/or bytes published per second.
+ * <p>
+ * Each bucket holds up to {@code rate * burst} tokens, so an idle publisher can send a burst before being held to the
+ * steady rate. Permits are reserved under a lock but waited for outside of it, so a single instance can be shared by
+ * concurrent publishers to enforce a global rate.
+ */
+public final class RateLimiter {
+
+    public static final Duration DEFAULT_BURST = Duration.ofSeconds(1);
+
+    private final Bucket messages;
+    private final Bucket bytes;
+
+    /**
+     * Creates a new {@link RateLimiter} instance.
+     *
+     * @param messagesPerSecond The maximum number of messages per second - {@code null} for no limit.
+     * @param bytesPerSecond The maximum number of payload bytes per second - {@code null} for no limit.
+     * @param burst The duration of the budget that can be consumed at once.
+     */
+    public RateLimiter(final Double messagesPerSecond, final Double bytesPerSecond, final Duration burst) {
+        if (burst == null || burst.isNegative() || burst.isZero()) {
+            throw new IllegalArgumentException("burst must be greater than 0, was: " + burst);
+        }
+        this.messages = messagesPerSecond != null ? new Bucket(messagesPerSecond, burst) : null;
+        this.bytes = bytesPerSecond != null ? new Bucket(bytesPerSecond, burst) : null;
+    }
+
+    /**
+     * Blocks until the given message can be published.
+     *
+     * @param size The message payload size, in bytes.
+     * @return the time spent waiting, in nanoseconds.
+     */
+    public long acquire(final int size) throws InterruptedException {
+        final long now = System.nanoTime();
+        long waitNanos = 0;
+        if (messages != null) {
+            waitNanos = messages.reserve(1, now);
+        }
+        if (bytes != null) {
+            waitNanos = Math.max(waitNanos, bytes.reserve(size, now));
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    private static final class Bucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(final double ratePerSecond, final Duration burst) {
+            if (ratePerSecond <= 0) {
+                throw new IllegalArgumentException("rate must be greater than 0, was: " + ratePerSecond);
+            }
+            this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, ratePerSecond * burst.toNanos() / TimeUnit.SECONDS.toNanos(1));
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes the given permits, going into debt when there are not enough tokens.
+         *
+         * @return the time to wait before the debt is paid back, in nanoseconds.
+         */
+        private synchronized long reserve(final double permits, final long now) {
+            if (now > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+                lastRefillNanos = now;
+            }
+            tokens -= permits;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        }
+    }
+}
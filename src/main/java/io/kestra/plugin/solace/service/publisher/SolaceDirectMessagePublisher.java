@@ -4,7 +4,9 @@ import java.util.Objects;
 
 import org.slf4j.Logger;
 
+import com.solace.messaging.DirectMessagePublisherBuilder;
 import com.solace.messaging.MessagingService;
+import com.solace.messaging.PubSubPlusClientException;
 import com.solace.messaging.publisher.DirectMessagePublisher;
 import com.solace.messaging.publisher.MessagePublisher;
 import com.solace.messaging.publisher.OutboundMessage;
@@ -14,14 +16,37 @@ import io.kestra.plugin.solace.serde.Serde;
 
 public final class SolaceDirectMessagePublisher extends AbstractSolaceDirectMessagePublisher {
 
-    private static final int DEFAULT_BACKPRESSURE_BUFFER_SIZE = 1;
+    public static final int DEFAULT_BACKPRESSURE_BUFFER_SIZE = 1000;
     private DirectMessagePublisher publisher;
 
-    private final Topic topic;
+    private final BackPressureStrategies backPressureStrategy;
+
+    private final int backPressureBufferCapacity;
 
     public SolaceDirectMessagePublisher(Topic topic, Serde serde, Logger logger) {
-        super(serde, logger);
-        this.topic = Objects.requireNonNull(topic, "topic cannot be null");
+        this(new TopicResolver(topic), serde, PublisherContext.of(logger), BackPressureStrategies.WAIT, DEFAULT_BACKPRESSURE_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new {@link SolaceDirectMessagePublisher} instance.
+     *
+     * @param topicResolver The resolver used to get the topic of each message.
+     * @param serde The serde to be used for converting message payload to bytes.
+     * @param context The options shared by all publishers of a run.
+     * @param backPressureStrategy The strategy applied when the publisher buffer is full.
+     * @param backPressureBufferCapacity The publisher buffer capacity - ignored for {@link BackPressureStrategies#ELASTIC}.
+     */
+    public SolaceDirectMessagePublisher(final TopicResolver topicResolver,
+        final Serde serde,
+        final PublisherContext context,
+        final BackPressureStrategies backPressureStrategy,
+        final int backPressureBufferCapacity) {
+        super(topicResolver, serde, context);
+        if (backPressureBufferCapacity < 1) {
+            throw new IllegalArgumentException("backPressureBufferCapacity must be greater than 0, was: " + backPressureBufferCapacity);
+        }
+        this.backPressureStrategy = Objects.requireNonNull(backPressureStrategy, "backPressureStrategy cannot be null");
+        this.backPressureBufferCapacity = backPressureBufferCapacity;
     }
 
     /**
@@ -29,12 +54,15 @@ public final class SolaceDirectMessagePublisher extends AbstractSolaceDirectMess
      **/
     @Override
     protected MessagePublisher open(final MessagingService messagingService) {
-        publisher = messagingService
-            .createDirectMessagePublisherBuilder()
-            .onBackPressureWait(DEFAULT_BACKPRESSURE_BUFFER_SIZE)
+        DirectMessagePublisherBuilder builder = messagingService.createDirectMessagePublisherBuilder();
+        builder = switch (backPressureStrategy) {
+            case WAIT -> builder.onBackPressureWait(backPressureBufferCapacity);
+            case REJECT -> builder.onBackPressureReject(backPressureBufferCapacity);
+            case ELASTIC -> builder.onBackPressureElastic();
+        };
+        publisher = builder
             .build()
             .start();
-        publisher.start();
         return publisher;
     }
 
@@ -42,7 +70,31 @@ public final class SolaceDirectMessagePublisher extends AbstractSolaceDirectMess
      * {@inheritDoc}
      **/
     @Override
-    protected void publish(final OutboundMessage message) {
-        publisher.publish(message, topic);
+    protected void publish(final OutboundMessage message, final Topic topic, final long index) {
+        switch (backPressureStrategy) {
+            case WAIT -> {
+                if (publisher.isReady()) {
+                    publisher.publish(message, topic);
+                } else {
+                    // the buffer is full: only then is publish blocked waiting for room in the buffer.
+                    final long start = System.nanoTime();
+                    publisher.publish(message, topic);
+                    metrics().recordBackPressure(System.nanoTime() - start);
+                }
+            }
+            case REJECT -> {
+                try {
+                    publisher.publish(message, topic);
+                } catch (PubSubPlusClientException.PublisherOverflowException e) {
+                    metrics().recordRejectedMessage();
+                    if (logger().isTraceEnabled()) {
+                        logger().trace("Message rejected as the publisher buffer is full.", e);
+                    }
+                }
+            }
+            case ELASTIC -> publisher.publish(message, topic);
+        }
+        // DIRECT messages are never acknowledged by the broker - rejected ones will not be retried either.
+        acknowledge(index);
     }
 }
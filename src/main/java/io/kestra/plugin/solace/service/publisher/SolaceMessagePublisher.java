@@ -0,0 +1,57 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.io.InputStream;
+import java.util.Map;
+
+import com.solace.messaging.MessagingService;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for publishing messages to Solace.
+ * <p>
+ * A publisher is started once, can then publish any number of input streams, and must be flushed
+ * and closed once done.
+ */
+public interface SolaceMessagePublisher extends AutoCloseable {
+
+    /**
+     * Starts this publisher - the given service is not owned by the publisher and is never disconnected by it.
+     *
+     * @param messagingService The {@link MessagingService} used to build new publishers.
+     * @param additionalMessageProperties The additional message properties to customize all messages to be published.
+     */
+    void start(MessagingService messagingService, Map<String, String> additionalMessageProperties);
+
+    /**
+     * Publishes all messages from the given input stream.
+     *
+     * @param inputStream The input stream used to retrieve messages to be sent.
+     * @return the number of messages published.
+     */
+    default int publishAll(InputStream inputStream) throws Exception {
+        return publishAll(FileSerde.readAll(inputStream, OutboundMessageObject.class));
+    }
+
+    /**
+     * Publishes all messages from the given stream of messages.
+     *
+     * @param messages The messages to be sent.
+     * @return the number of messages published.
+     */
+    int publishAll(Flux<OutboundMessageObject> messages) throws Exception;
+
+    /**
+     * Blocks until all published messages are handled by the broker.
+     */
+    void flush() throws Exception;
+
+    /**
+     * Terminates this publisher.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,234 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.solace.messaging.MessagingService;
+
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+/**
+ * A {@link SolaceMessagePublisher} spreading messages across several publishers, each one running on its own thread.
+ * <p>
+ * Messages sharing the same ordering key are always routed to the same publisher, so they are published in
+ * input order. Messages without an ordering key are distributed round-robin and may be published out of order.
+ */
+public final class SolacePartitionedMessagePublisher implements SolaceMessagePublisher {
+
+    // Solace uses the JMSXGroupID user property as the partition key of partitioned queues.
+    public static final String DEFAULT_ORDERING_KEY_PROPERTY = "JMSXGroupID";
+
+    private static final int DEFAULT_LANE_CAPACITY = 1024;
+    private static final long DEFAULT_JOIN_TIMEOUT = Duration.ofMinutes(1).toMillis();
+    // how often a blocked caller checks whether the lane it waits for is still running.
+    private static final long LANE_CHECK_INTERVAL = Duration.ofMillis(100).toMillis();
+    private static final Object POISON_PILL = new Object();
+
+    private final List<Lane> lanes;
+    private final String orderingKeyProperty;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private int nextLane = 0;
+
+    /**
+     * Creates a new {@link SolacePartitionedMessagePublisher} instance.
+     *
+     * @param publisherSupplier The supplier used to create one publisher per lane.
+     * @param parallelism The number of publishers.
+     * @param orderingKeyProperty The message property used to route messages - can be {@code null}.
+     */
+    public SolacePartitionedMessagePublisher(final Supplier<AbstractSolaceDirectMessagePublisher> publisherSupplier,
+        final int parallelism,
+        final String orderingKeyProperty) {
+        Objects.requireNonNull(publisherSupplier, "publisherSupplier cannot be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0, was: " + parallelism);
+        }
+        this.orderingKeyProperty = orderingKeyProperty;
+        this.lanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            lanes.add(new Lane(i, publisherSupplier.get()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void start(final MessagingService messagingService, final Map<String, String> additionalMessageProperties) {
+        for (Lane lane : lanes) {
+            lane.publisher.start(messagingService, additionalMessageProperties);
+            lane.start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public int publishAll(final Flux<OutboundMessageObject> messages) throws Exception {
+        return messages
+            .map(throwFunction(outboundMessageObject ->
+            {
+                route(outboundMessageObject);
+                return 1;
+            }))
+            .reduce(Integer::sum)
+            .blockOptional()
+            .orElse(0);
+    }
+
+    private void route(final OutboundMessageObject object) throws InterruptedException {
+        checkError();
+
+        String key = orderingKeyProperty != null && object.properties() != null ?
+            object.properties().get(orderingKeyProperty) :
+            null;
+
+        final int index;
+        if (key != null) {
+            index = Math.floorMod(key.hashCode(), lanes.size());
+        } else {
+            index = nextLane;
+            nextLane = (nextLane + 1) % lanes.size();
+        }
+        lanes.get(index).enqueue(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void flush() throws Exception {
+        List<CountDownLatch> barriers = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes) {
+            CountDownLatch barrier = new CountDownLatch(1);
+            lane.enqueue(new Barrier(barrier));
+            barriers.add(barrier);
+        }
+        for (int i = 0; i < lanes.size(); i++) {
+            while (!barriers.get(i).await(LANE_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+                lanes.get(i).checkRunning();
+            }
+        }
+        checkError();
+
+        for (Lane lane : lanes) {
+            lane.publisher.flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        for (Lane lane : lanes) {
+            lane.publisher.close();
+        }
+    }
+
+    private void checkError() {
+        Throwable throwable = error.get();
+        if (throwable != null) {
+            throw new RuntimeException("Failed to publish message to Solace.", throwable);
+        }
+    }
+
+    private record Barrier(CountDownLatch latch) {
+    }
+
+    private final class Lane implements Runnable {
+        private final int id;
+        private final AbstractSolaceDirectMessagePublisher publisher;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(DEFAULT_LANE_CAPACITY);
+        private Thread thread;
+
+        private Lane(final int id, final AbstractSolaceDirectMessagePublisher publisher) {
+            this.id = id;
+            this.publisher = Objects.requireNonNull(publisher, "publisher cannot be null");
+        }
+
+        private void start() {
+            thread = Thread.ofPlatform()
+                .daemon()
+                .name("solace-publisher-" + id)
+                .start(this);
+        }
+
+        /**
+         * Adds the given item to this lane, failing instead of blocking forever if the lane stopped.
+         */
+        private void enqueue(final Object item) throws InterruptedException {
+            while (!queue.offer(item, LANE_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+                checkRunning();
+            }
+        }
+
+        private void checkRunning() {
+            checkError();
+            if (thread == null || !thread.isAlive()) {
+                throw new IllegalStateException("Publisher lane " + id + " is not running.");
+            }
+        }
+
+        private void stop() {
+            if (thread == null) {
+                return;
+            }
+            try {
+                // a lane stuck on the broker never takes the poison pill: it is then interrupted.
+                if (!queue.offer(POISON_PILL, DEFAULT_JOIN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    thread.interrupt();
+                }
+                thread.join(DEFAULT_JOIN_TIMEOUT);
+                if (thread.isAlive()) {
+                    thread.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                thread = null;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == POISON_PILL) {
+                        return;
+                    }
+                    if (item instanceof Barrier barrier) {
+                        barrier.latch().countDown();
+                    } else if (error.get() == null) {
+                        // once a lane failed, remaining messages are drained without being published.
+                        try {
+                            publisher.publishMessage((OutboundMessageObject) item);
+                        } catch (Throwable e) {
+                            error.compareAndSet(null, e);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -2,6 +2,10 @@ package io.kestra.plugin.solace.service.publisher;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 
@@ -17,19 +21,54 @@ public final class SolacePersistentMessagePublisher extends AbstractSolaceDirect
 
     private static final int DEFAULT_BACKPRESSURE_BUFFER_SIZE = 1;
 
-    private PersistentMessagePublisher publisher;
+    // The Solace API does not accept an acknowledgement window larger than 255.
+    private static final int MAX_DELIVERY_ACK_WINDOW_SIZE = 255;
 
-    private final Topic topic;
+    private PersistentMessagePublisher publisher;
 
     private final Duration awaitAcknowledgementTimeout;
 
+    private final int maxInFlightMessages;
+
+    private final Semaphore inFlightMessages;
+
+    private final AtomicReference<Throwable> publishError = new AtomicReference<>();
+
     public SolacePersistentMessagePublisher(final Topic topic,
         final Serde serde,
         final Logger logger,
         final Duration awaitAcknowledgementTimeout) {
-        super(serde, logger);
-        this.topic = Objects.requireNonNull(topic, "topic cannot be null");
-        this.awaitAcknowledgementTimeout = awaitAcknowledgementTimeout;
+        this(new TopicResolver(topic), serde, PublisherContext.of(logger), awaitAcknowledgementTimeout, 1);
+    }
+
+    /**
+     * Creates a new {@link SolacePersistentMessagePublisher} instance.
+     * <p>
+     * When {@code maxInFlightMessages} is greater than one, messages are published asynchronously and
+     * their {@link PersistentMessagePublisher.PublishReceipt} are tracked until all of them are acknowledged.
+     *
+     * @param topicResolver The resolver used to get the topic of each message.
+     * @param serde The serde to be used for converting message payload to bytes.
+     * @param context The options shared by all publishers of a run.
+     * @param awaitAcknowledgementTimeout The maximum time to wait for a message acknowledgement.
+     * @param maxInFlightMessages The maximum number of messages published but not yet acknowledged.
+     */
+    public SolacePersistentMessagePublisher(final TopicResolver topicResolver,
+        final Serde serde,
+        final PublisherContext context,
+        final Duration awaitAcknowledgementTimeout,
+        final int maxInFlightMessages) {
+        super(topicResolver, serde, context);
+        if (maxInFlightMessages < 1) {
+            throw new IllegalArgumentException("maxInFlightMessages must be greater than 0, was: " + maxInFlightMessages);
+        }
+        this.awaitAcknowledgementTimeout = Objects.requireNonNull(awaitAcknowledgementTimeout, "awaitAcknowledgementTimeout cannot be null");
+        this.maxInFlightMessages = maxInFlightMessages;
+        this.inFlightMessages = new Semaphore(maxInFlightMessages);
+    }
+
+    private boolean isPipelined() {
+        return maxInFlightMessages > 1;
     }
 
     /**
@@ -39,18 +78,37 @@ public final class SolacePersistentMessagePublisher extends AbstractSolaceDirect
     protected MessagePublisher open(final MessagingService messagingService) {
         publisher = messagingService
             .createPersistentMessagePublisherBuilder()
-            .withDeliveryAckWindowSize(1)
+            .withDeliveryAckWindowSize(Math.min(maxInFlightMessages, MAX_DELIVERY_ACK_WINDOW_SIZE))
             .onBackPressureWait(DEFAULT_BACKPRESSURE_BUFFER_SIZE)
             .build()
             .start();
 
         publisher.setMessagePublishReceiptListener(publishReceipt ->
         {
-            if (logger().isTraceEnabled()) {
-                if (publishReceipt.isPersisted()) {
+            final InFlight inFlight = publishReceipt.getUserContext() instanceof InFlight value ? value : null;
+            final long latency = inFlight != null ? System.nanoTime() - inFlight.publishNanos() : 0;
+
+            Throwable error = publishReceipt.getException();
+            if (error == null && !publishReceipt.isPersisted()) {
+                error = new IllegalStateException("Message was not persisted by the broker.");
+            }
+
+            if (error != null) {
+                publishError.compareAndSet(null, error);
+            } else {
+                if (inFlight != null) {
+                    metrics().recordAckLatency(latency);
+                    acknowledge(inFlight.index());
+                }
+                if (logger().isTraceEnabled()) {
                     logger().trace("Message reached a broker and persistence confirmation was received back.");
                 }
             }
+            recordReceipt(inFlight != null ? inFlight.index() : -1, publishReceipt.getMessage(), latency, error);
+
+            if (isPipelined()) {
+                inFlightMessages.release();
+            }
         });
         return publisher;
     }
@@ -59,7 +117,82 @@ public final class SolacePersistentMessagePublisher extends AbstractSolaceDirect
      * {@inheritDoc}
      **/
     @Override
-    protected void publish(final OutboundMessage message) throws InterruptedException {
-        publisher.publishAwaitAcknowledgement(message, topic, awaitAcknowledgementTimeout.toMillis());
+    protected void publish(final OutboundMessage message, final Topic topic, final long index) throws Exception {
+        if (!isPipelined()) {
+            final long start = System.nanoTime();
+            try {
+                publisher.publishAwaitAcknowledgement(message, topic, awaitAcknowledgementTimeout.toMillis());
+            } catch (Exception e) {
+                recordReceipt(index, message, System.nanoTime() - start, e);
+                throw e;
+            }
+            final long latency = System.nanoTime() - start;
+            metrics().recordAckLatency(latency);
+            acknowledge(index);
+            recordReceipt(index, message, latency, null);
+            return;
+        }
+
+        checkPublishError();
+        if (!inFlightMessages.tryAcquire(awaitAcknowledgementTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException(
+                "No acknowledgement received within " + awaitAcknowledgementTimeout + " for " + maxInFlightMessages + " in-flight messages."
+            );
+        }
+
+        try {
+            // the context comes back with the receipt, so that acknowledgements can be tracked out of order.
+            publisher.publish(message, topic, new InFlight(index, System.nanoTime()));
+        } catch (RuntimeException e) {
+            inFlightMessages.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for all in-flight messages to be acknowledged.
+     **/
+    @Override
+    public void flush() throws Exception {
+        if (!isPipelined()) {
+            return;
+        }
+
+        if (!inFlightMessages.tryAcquire(maxInFlightMessages, awaitAcknowledgementTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            checkPublishError();
+            throw new TimeoutException(
+                (maxInFlightMessages - inFlightMessages.availablePermits()) + " message(s) still awaiting acknowledgement after " + awaitAcknowledgementTimeout + "."
+            );
+        }
+        inFlightMessages.release(maxInFlightMessages);
+        checkPublishError();
+    }
+
+    private void recordReceipt(final long index, final OutboundMessage message, final long latencyNanos, final Throwable error) {
+        final PublishReceiptWriter receipts = receipts();
+        if (receipts != null) {
+            receipts.record(PublishReceiptWriter.Receipt.of(
+                index,
+                message != null ? message.getApplicationMessageId() : null,
+                latencyNanos,
+                error
+            ));
+        }
+    }
+
+    private void checkPublishError() {
+        Throwable error = publishError.get();
+        if (error != null) {
+            throw new RuntimeException("Failed to publish message to Solace.", error);
+        }
+    }
+
+    /**
+     * Context of a message awaiting its acknowledgement.
+     *
+     * @param index The index of the input message, or {@code -1} when unknown.
+     * @param publishNanos The time the message was published at, from {@link System#nanoTime()}.
+     */
+    private record InFlight(long index, long publishNanos) {
     }
 }
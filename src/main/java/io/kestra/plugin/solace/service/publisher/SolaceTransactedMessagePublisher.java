@@ -0,0 +1,169 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.solace.messaging.MessagingService;
+import com.solace.messaging.TransactionalMessagingService;
+import com.solace.messaging.publisher.MessagePublisher;
+import com.solace.messaging.publisher.OutboundMessage;
+import com.solace.messaging.publisher.TransactionalMessagePublisher;
+import com.solace.messaging.resources.Topic;
+
+import io.kestra.plugin.solace.serde.Serde;
+
+/**
+ * Publishes persistent messages within local transactions, committed every {@code commitBatchSize} messages or
+ * once {@code commitInterval} elapsed since the transaction began, whichever comes first.
+ * <p>
+ * The broker persists each transaction at once instead of acknowledging every message. On failure, the open
+ * transaction is rolled back, so that only committed batches are delivered. Commits only happen between input
+ * messages, so that all the chunks of a message are always committed together - a transaction may thus exceed
+ * {@code commitBatchSize} by the chunks of its last message.
+ */
+public final class SolaceTransactedMessagePublisher extends AbstractSolaceDirectMessagePublisher {
+
+    public static final int DEFAULT_COMMIT_BATCH_SIZE = 1000;
+    public static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofSeconds(1);
+
+    private final int commitBatchSize;
+    private final long commitIntervalInNanos;
+
+    private TransactionalMessagingService transactionalService;
+    private TransactionalMessagePublisher publisher;
+
+    private final List<Long> uncommittedIndexes = new ArrayList<>();
+    private int uncommittedMessages;
+    private long transactionStartNanos;
+
+    /**
+     * Creates a new {@link SolaceTransactedMessagePublisher} instance.
+     *
+     * @param topicResolver The resolver used to get the topic of each message.
+     * @param serde The serde to be used for converting message payload to bytes.
+     * @param context The options shared by all publishers of a run.
+     * @param commitBatchSize The maximum number of messages per transaction.
+     * @param commitInterval The maximum time a transaction stays open while messages are published.
+     */
+    public SolaceTransactedMessagePublisher(final TopicResolver topicResolver,
+        final Serde serde,
+        final PublisherContext context,
+        final int commitBatchSize,
+        final Duration commitInterval) {
+        super(topicResolver, serde, context);
+        if (commitBatchSize < 1) {
+            throw new IllegalArgumentException("commitBatchSize must be greater than 0, was: " + commitBatchSize);
+        }
+        this.commitBatchSize = commitBatchSize;
+        this.commitIntervalInNanos = Objects.requireNonNull(commitInterval, "commitInterval cannot be null").toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected MessagePublisher open(final MessagingService messagingService) {
+        // transactions require their own session, created from the configuration of the given one.
+        transactionalService = messagingService
+            .createTransactionalMessagingServiceBuilder()
+            .build()
+            .connect();
+        publisher = transactionalService
+            .createTransactionalMessagePublisherBuilder()
+            .build()
+            .start();
+        return publisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected void publish(final OutboundMessage message, final Topic topic, final long index) {
+        if (uncommittedMessages == 0) {
+            transactionStartNanos = System.nanoTime();
+        }
+        try {
+            publisher.publish(message, topic);
+        } catch (RuntimeException e) {
+            rollback();
+            throw e;
+        }
+        uncommittedMessages++;
+        if (index >= 0) {
+            uncommittedIndexes.add(index);
+        }
+    }
+
+    /**
+     * Commits the open transaction once it is full or expired.
+     **/
+    @Override
+    protected void onMessagePublished(final long index) {
+        if (uncommittedMessages >= commitBatchSize || System.nanoTime() - transactionStartNanos >= commitIntervalInNanos) {
+            commit();
+        }
+    }
+
+    /**
+     * Commits the open transaction, if any.
+     **/
+    @Override
+    public void flush() {
+        if (uncommittedMessages > 0) {
+            commit();
+        }
+    }
+
+    /**
+     * Rolls back the open transaction, if any, then terminates the publisher and its session.
+     */
+    @Override
+    public void close() {
+        try {
+            if (uncommittedMessages > 0) {
+                rollback();
+            }
+            super.close();
+        } finally {
+            if (transactionalService != null) {
+                transactionalService.disconnect();
+                transactionalService = null;
+            }
+        }
+    }
+
+    private void commit() {
+        final long start = System.nanoTime();
+        try {
+            transactionalService.commit();
+        } catch (RuntimeException e) {
+            // a failed commit is rolled back by the broker.
+            metrics().recordRollback();
+            reset();
+            throw new RuntimeException("Failed to commit transaction of " + uncommittedMessages + " message(s).", e);
+        }
+        metrics().recordCommit(System.nanoTime() - start);
+        uncommittedIndexes.forEach(this::acknowledge);
+        reset();
+    }
+
+    private void rollback() {
+        logger().warn("Rolling back transaction of {} message(s).", uncommittedMessages);
+        try {
+            transactionalService.rollback();
+        } catch (RuntimeException e) {
+            logger().warn("Failed to rollback transaction.", e);
+        } finally {
+            metrics().recordRollback();
+            reset();
+        }
+    }
+
+    private void reset() {
+        uncommittedMessages = 0;
+        uncommittedIndexes.clear();
+    }
+}
@@ -0,0 +1,120 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.solace.messaging.resources.Topic;
+
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+/**
+ * Resolves the {@link Topic} of each published message.
+ * <p>
+ * A message is published to its own {@code topic} when set, otherwise to the default topic. The default topic can
+ * reference message properties using {@code ${name}} placeholders, e.g. {@code orders/${region}}, which are
+ * substituted for every message. Resolved topics are kept in a bounded LRU cache so that routing does not
+ * allocate a new {@link Topic} on every send.
+ * <p>
+ * This class is not thread-safe - each publisher must use its own resolver.
+ */
+public final class TopicResolver {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final String template;
+    private final Topic fixedTopic;
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> placeholders = new ArrayList<>();
+    private final Map<String, Topic> cache;
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Creates a new {@link TopicResolver} always returning the given topic, unless a message defines its own.
+     *
+     * @param topic The default topic.
+     */
+    public TopicResolver(final Topic topic) {
+        this(Objects.requireNonNull(topic, "topic cannot be null").getName(), DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new {@link TopicResolver} instance.
+     *
+     * @param template The default topic, optionally containing {@code ${name}} placeholders.
+     * @param cacheSize The maximum number of resolved topics kept in cache.
+     */
+    public TopicResolver(final String template, final int cacheSize) {
+        this.template = Objects.requireNonNull(template, "template cannot be null");
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be greater than 0, was: " + cacheSize);
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Topic> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        compile(template);
+        this.fixedTopic = placeholders.isEmpty() ? Topic.of(template) : null;
+    }
+
+    private void compile(final String template) {
+        int position = 0;
+        while (true) {
+            int start = template.indexOf("${", position);
+            if (start < 0) {
+                literals.add(template.substring(position));
+                return;
+            }
+            int end = template.indexOf('}', start + 2);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in topic '" + template + "'.");
+            }
+            literals.add(template.substring(position, start));
+            placeholders.add(template.substring(start + 2, end).trim());
+            position = end + 1;
+        }
+    }
+
+    /**
+     * Resolves the topic for the given message.
+     *
+     * @param object The message to be published.
+     * @return the {@link Topic}.
+     */
+    public Topic resolve(final OutboundMessageObject object) {
+        if (object.topic() != null) {
+            return cached(object.topic());
+        }
+
+        if (fixedTopic != null) {
+            return fixedTopic;
+        }
+
+        buffer.setLength(0);
+        for (int i = 0; i < placeholders.size(); i++) {
+            buffer.append(literals.get(i));
+            String value = object.properties() != null ? object.properties().get(placeholders.get(i)) : null;
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    "Missing message property '" + placeholders.get(i) + "' required by topic '" + template + "'."
+                );
+            }
+            buffer.append(value);
+        }
+        buffer.append(literals.getLast());
+        return cached(buffer.toString());
+    }
+
+    private Topic cached(final String name) {
+        Topic topic = cache.get(name);
+        if (topic == null) {
+            topic = Topic.of(name);
+            cache.put(name, topic);
+        }
+        return topic;
+    }
+}
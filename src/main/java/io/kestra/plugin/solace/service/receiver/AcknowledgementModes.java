@@ -0,0 +1,22 @@
+package io.kestra.plugin.solace.service.receiver;
+
+/**
+ * Supported strategies for acknowledging received messages.
+ */
+public enum AcknowledgementModes {
+
+    /**
+     * Acknowledges each message as soon as it is handed to the listener.
+     */
+    IMMEDIATE,
+
+    /**
+     * Acknowledges messages in batches, once enough messages are pending or the oldest one waited long enough.
+     */
+    BATCHED,
+
+    /**
+     * Acknowledges all messages once the poll is complete and its output is committed.
+     */
+    DEFERRED
+}
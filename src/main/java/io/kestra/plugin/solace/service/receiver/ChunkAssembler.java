@@ -0,0 +1,236 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+import io.kestra.plugin.solace.service.MessageChunks;
+
+/**
+ * Reassembles payloads split into chunks by the publisher.
+ * <p>
+ * Chunks are kept in memory up to a maximum number of buffered bytes; beyond that, new chunks are spilled
+ * to temporary files until their group is complete. Groups still incomplete after the timeout are discarded.
+ * <p>
+ * When {@link #add} fails, the given chunk is not kept, so that the caller can drop it. If the group fails to be
+ * reassembled, the messages of its other chunks are returned by the next {@link #expire()}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <M> The type of the received messages, kept so that they can be acknowledged once their group is complete.
+ * @see MessageChunks
+ */
+public final class ChunkAssembler<M> implements AutoCloseable {
+
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = 64L * 1024 * 1024;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final long maxBufferedBytes;
+    private final long timeoutInMillis;
+    private final Path spillDirectory;
+    private final Logger logger;
+
+    private final Map<String, Group> groups = new HashMap<>();
+    private final List<M> failed = new ArrayList<>();
+    private long bufferedBytes;
+
+    /**
+     * Creates a new {@link ChunkAssembler} instance.
+     *
+     * @param maxBufferedBytes The maximum number of chunk bytes kept in memory.
+     * @param timeout The maximum time to wait for all the chunks of a group.
+     * @param spillDirectory The directory for chunks exceeding the memory buffer - {@code null} for the default temporary directory.
+     * @param logger The logger.
+     */
+    public ChunkAssembler(final long maxBufferedBytes,
+        final Duration timeout,
+        final Path spillDirectory,
+        final Logger logger) {
+        if (maxBufferedBytes < 0) {
+            throw new IllegalArgumentException("maxBufferedBytes must be greater than or equal to 0, was: " + maxBufferedBytes);
+        }
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.timeoutInMillis = Objects.requireNonNull(timeout, "timeout cannot be null").toMillis();
+        this.spillDirectory = spillDirectory;
+        this.logger = Objects.requireNonNull(logger, "logger cannot be null");
+    }
+
+    /**
+     * Adds a received chunk.
+     *
+     * @param group The chunk group.
+     * @param sequence The chunk sequence.
+     * @param total The total number of chunks in the group.
+     * @param data The chunk bytes.
+     * @param message The received message.
+     * @return the reassembled payload when this chunk completes its group.
+     */
+    public Optional<Assembled<M>> add(final String group,
+        final int sequence,
+        final int total,
+        final byte[] data,
+        final M message) {
+        if (total < 1 || sequence < 0 || sequence >= total) {
+            throw new IllegalArgumentException(
+                "Invalid chunk " + sequence + "/" + total + " for group '" + group + "'."
+            );
+        }
+        final Group state = groups.computeIfAbsent(group, unused -> new Group(total, System.currentTimeMillis()));
+        if (state.chunks.length != total) {
+            throw new IllegalArgumentException(
+                "Inconsistent number of chunks for group '" + group + "': " + total + " != " + state.chunks.length + "."
+            );
+        }
+
+        // a redelivered chunk only needs to be acknowledged with its group.
+        if (state.chunks[sequence] == null) {
+            state.chunks[sequence] = buffer(data);
+            state.size += data.length;
+            state.received++;
+        }
+        state.messages.add(message);
+
+        if (state.received < total) {
+            return Optional.empty();
+        }
+
+        groups.remove(group);
+        try {
+            return Optional.of(new Assembled<>(assemble(state), state.messages));
+        } catch (RuntimeException e) {
+            // the given chunk is left to the caller, the other ones would never be acknowledged otherwise.
+            failed.addAll(state.messages.subList(0, state.messages.size() - 1));
+            throw e;
+        } finally {
+            release(state);
+        }
+    }
+
+    /**
+     * Discards all groups not completed within the timeout.
+     *
+     * @return the messages of the discarded groups, and of the groups that failed to be reassembled.
+     */
+    public List<M> expire() {
+        if (groups.isEmpty() && failed.isEmpty()) {
+            return List.of();
+        }
+        final long now = System.currentTimeMillis();
+        final List<M> expired = new ArrayList<>(failed);
+        failed.clear();
+        final Iterator<Map.Entry<String, Group>> iterator = groups.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Group> entry = iterator.next();
+            Group state = entry.getValue();
+            if (now - state.createdAt >= timeoutInMillis) {
+                logger.warn(
+                    "Discarding incomplete chunk group '{}': received {} of {} chunks within {} ms.",
+                    entry.getKey(), state.received, state.chunks.length, timeoutInMillis
+                );
+                expired.addAll(state.messages);
+                release(state);
+                iterator.remove();
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of incomplete groups.
+     */
+    public int pendingGroups() {
+        return groups.size();
+    }
+
+    /**
+     * Discards all incomplete groups - their messages are left unacknowledged.
+     */
+    @Override
+    public void close() {
+        groups.values().forEach(this::release);
+        groups.clear();
+    }
+
+    private Object buffer(final byte[] data) {
+        if (bufferedBytes + data.length <= maxBufferedBytes) {
+            bufferedBytes += data.length;
+            return data;
+        }
+        try {
+            Path file = spillDirectory != null
+                ? Files.createTempFile(spillDirectory, "chunk-", ".bin")
+                : Files.createTempFile("chunk-", ".bin");
+            Files.write(file, data);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error spilling message chunk to disk.", e);
+        }
+    }
+
+    private byte[] assemble(final Group state) {
+        if (state.size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Reassembled payload is too large: " + state.size + " bytes.");
+        }
+        final byte[] payload = new byte[(int) state.size];
+        int position = 0;
+        try {
+            for (Object chunk : state.chunks) {
+                byte[] bytes = chunk instanceof Path file ? Files.readAllBytes(file) : (byte[]) chunk;
+                System.arraycopy(bytes, 0, payload, position, bytes.length);
+                position += bytes.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading spilled message chunk.", e);
+        }
+        return payload;
+    }
+
+    private void release(final Group state) {
+        for (int i = 0; i < state.chunks.length; i++) {
+            Object chunk = state.chunks[i];
+            if (chunk instanceof Path file) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.debug("Failed to delete spilled chunk '{}'.", file, e);
+                }
+            } else if (chunk instanceof byte[] bytes) {
+                bufferedBytes -= bytes.length;
+            }
+            state.chunks[i] = null;
+        }
+    }
+
+    /**
+     * A reassembled payload.
+     *
+     * @param payload The payload bytes.
+     * @param messages All the messages received for this payload, starting with the first received one.
+     */
+    public record Assembled<M>(byte[] payload, List<M> messages) {
+    }
+
+    private final class Group {
+        private final Object[] chunks;
+        private final long createdAt;
+        private final List<M> messages = new ArrayList<>();
+        private int received;
+        private long size;
+
+        private Group(final int total, final long createdAt) {
+            this.chunks = new Object[total];
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Acknowledges received messages according to an {@link AcknowledgementModes}.
+ * <p>
+ * Pending messages are only acknowledged on {@link #flush()}, so that a failure before then leaves them
+ * for redelivery.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <M> The type of the received messages.
+ */
+public final class MessageAcknowledger<M> {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    private final Consumer<M> acknowledge;
+    private final AcknowledgementModes mode;
+    private final int batchSize;
+    private final long intervalInNanos;
+
+    private final List<M> pending = new ArrayList<>();
+    private long firstPendingNanos;
+
+    /**
+     * Creates a new {@link MessageAcknowledger} instance.
+     *
+     * @param acknowledge The function acknowledging a single message.
+     * @param mode The acknowledgement mode.
+     * @param batchSize The number of pending messages triggering a flush, for {@link AcknowledgementModes#BATCHED}.
+     * @param interval The maximum time a message stays pending, for {@link AcknowledgementModes#BATCHED}.
+     */
+    public MessageAcknowledger(final Consumer<M> acknowledge,
+        final AcknowledgementModes mode,
+        final int batchSize,
+        final Duration interval) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0, was: " + batchSize);
+        }
+        this.acknowledge = Objects.requireNonNull(acknowledge, "acknowledge cannot be null");
+        this.mode = Objects.requireNonNull(mode, "mode cannot be null");
+        this.batchSize = batchSize;
+        this.intervalInNanos = Objects.requireNonNull(interval, "interval cannot be null").toNanos();
+    }
+
+    /**
+     * Acknowledges the given message, now or on a later flush depending on the mode.
+     *
+     * @param message The message handed to the listener.
+     */
+    public void acknowledge(final M message) {
+        if (mode == AcknowledgementModes.IMMEDIATE) {
+            acknowledge.accept(message);
+            return;
+        }
+        if (pending.isEmpty()) {
+            firstPendingNanos = System.nanoTime();
+        }
+        pending.add(message);
+        if (mode == AcknowledgementModes.BATCHED && pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Flushes pending messages if the oldest one waited for the interval - only applies to {@link AcknowledgementModes#BATCHED}.
+     */
+    public void maybeFlush() {
+        if (mode == AcknowledgementModes.BATCHED && !pending.isEmpty() && System.nanoTime() - firstPendingNanos >= intervalInNanos) {
+            flush();
+        }
+    }
+
+    /**
+     * Gets the time until pending messages must be flushed.
+     *
+     * @return the delay in milliseconds, or {@link Long#MAX_VALUE} when no flush is due.
+     */
+    public long nextFlushDelay() {
+        if (mode != AcknowledgementModes.BATCHED || pending.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, Duration.ofNanos(intervalInNanos - (System.nanoTime() - firstPendingNanos)).toMillis());
+    }
+
+    /**
+     * Acknowledges all pending messages.
+     */
+    public void flush() {
+        pending.forEach(acknowledge);
+        pending.clear();
+    }
+
+    /**
+     * @return the number of messages awaiting a flush.
+     */
+    public int pending() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,132 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs tasks on a pool of worker threads, and hands their results over in submission order.
+ * <p>
+ * Results are kept in a bounded reorder buffer: once it is full, {@link #submit(Callable, Consumer)} blocks until
+ * the oldest task completes. Consumers always run on the thread submitting tasks, so that they need not be
+ * thread-safe. With a parallelism of one, tasks run directly on the submitting thread.
+ * <p>
+ * This class must only be used from a single thread.
+ *
+ * @param <R> The type of the task results.
+ */
+public final class OrderedExecutor<R> implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int capacity;
+    private final Deque<Pending<R>> pending = new ArrayDeque<>();
+
+    /**
+     * Creates a new {@link OrderedExecutor} instance.
+     *
+     * @param parallelism The number of worker threads.
+     * @param capacity The maximum number of results awaiting their turn.
+     * @param name The prefix of the worker thread names.
+     */
+    public OrderedExecutor(final int parallelism, final int capacity, final String name) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0, was: " + parallelism);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0, was: " + capacity);
+        }
+        this.capacity = capacity;
+        if (parallelism > 1) {
+            final AtomicInteger ids = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(parallelism, runnable -> Thread.ofPlatform()
+                .daemon()
+                .name(name + "-" + ids.getAndIncrement())
+                .unstarted(runnable));
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Submits a task - its result is passed to the given consumer once all previously submitted results were.
+     *
+     * @param task The task to run.
+     * @param consumer The consumer of the task result.
+     */
+    public void submit(final Callable<R> task, final Consumer<R> consumer) {
+        if (executor == null) {
+            consumer.accept(call(task));
+            return;
+        }
+        pending.addLast(new Pending<>(executor.submit(task), consumer));
+        drain(false);
+        while (pending.size() > capacity) {
+            complete(pending.removeFirst());
+        }
+    }
+
+    /**
+     * Passes all completed results to their consumers, in submission order.
+     *
+     * @param wait Whether to wait for all tasks to complete.
+     */
+    public void drain(final boolean wait) {
+        while (!pending.isEmpty() && (wait || pending.peekFirst().future().isDone())) {
+            complete(pending.removeFirst());
+        }
+    }
+
+    /**
+     * @return the number of submitted tasks whose results were not yet consumed.
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    private void complete(final Pending<R> next) {
+        final R result;
+        try {
+            result = next.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a task.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        next.consumer().accept(result);
+    }
+
+    private static <R> R call(final Callable<R> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Stops the worker threads - results not yet consumed are discarded.
+     */
+    @Override
+    public void close() {
+        pending.forEach(next -> next.future().cancel(true));
+        pending.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Pending<R>(Future<R> future, Consumer<R> consumer) {
+    }
+}
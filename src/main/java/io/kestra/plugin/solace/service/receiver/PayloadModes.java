@@ -0,0 +1,64 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import io.kestra.plugin.solace.serde.Serde;
+
+/**
+ * Supported representations of received payloads.
+ */
+public enum PayloadModes {
+
+    /**
+     * Deserializes payloads with the configured {@link Serde}.
+     */
+    DESERIALIZED {
+        @Override
+        public Object decode(final byte[] data, final Serde serde) {
+            return serde.deserialize(data);
+        }
+    },
+
+    /**
+     * Passes payload bytes through as is, without parsing them.
+     */
+    RAW_BYTES {
+        @Override
+        public Object decode(final byte[] data, final Serde serde) {
+            return data;
+        }
+    },
+
+    /**
+     * Passes payloads through as strings, failing on bytes that are not valid UTF-8.
+     */
+    RAW_STRING {
+        @Override
+        public Object decode(final byte[] data, final Serde serde) {
+            if (data == null) {
+                return null;
+            }
+            try {
+                return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(data))
+                    .toString();
+            } catch (CharacterCodingException e) {
+                throw new RuntimeException("Error decoding payload as UTF-8 string.", e);
+            }
+        }
+    };
+
+    /**
+     * Decodes a received payload, after decompression.
+     *
+     * @param data The payload bytes - can be {@code null}.
+     * @param serde The configured serde.
+     * @return the payload to be written in the output.
+     */
+    public abstract Object decode(byte[] data, Serde serde);
+}
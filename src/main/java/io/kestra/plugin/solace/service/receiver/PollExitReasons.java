@@ -0,0 +1,22 @@
+package io.kestra.plugin.solace.service.receiver;
+
+/**
+ * Reasons for a poll to return.
+ */
+public enum PollExitReasons {
+
+    /**
+     * The maximum number of messages was received.
+     */
+    MAX_MESSAGES,
+
+    /**
+     * The maximum poll duration elapsed.
+     */
+    MAX_DURATION,
+
+    /**
+     * No message was received for the idle timeout.
+     */
+    IDLE_TIMEOUT
+}
@@ -0,0 +1,129 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands messages received asynchronously over to the thread processing them.
+ * <p>
+ * Messages are offered by the receiver's dispatch thread, so that network I/O overlaps with deserialization and
+ * disk writes. Once the buffer holds {@code capacity} messages, the receiver is paused, and resumed when the buffer
+ * is drained down to half its capacity. The capacity can be lowered with {@link #limit(int)}, so that no more
+ * messages are buffered than the consumer still accepts. Messages already dispatched while pausing are still accepted.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <M> The type of the received messages.
+ */
+public final class ReceiveBuffer<M> {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final BlockingQueue<M> queue = new LinkedBlockingQueue<>();
+    private final int capacity;
+    private volatile int limit;
+    private final Runnable pause;
+    private final Runnable resume;
+
+    // flow control transitions are serialized, so that a pause can never be applied after the matching resume.
+    private boolean paused = false;
+
+    /**
+     * Creates a new {@link ReceiveBuffer} instance.
+     *
+     * @param capacity The number of buffered messages above which the receiver is paused.
+     * @param pause The function pausing the receiver.
+     * @param resume The function resuming the receiver.
+     */
+    public ReceiveBuffer(final int capacity, final Runnable pause, final Runnable resume) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.limit = capacity;
+        this.pause = Objects.requireNonNull(pause, "pause cannot be null");
+        this.resume = Objects.requireNonNull(resume, "resume cannot be null");
+    }
+
+    /**
+     * Adds a received message - never blocks.
+     *
+     * @param message The received message.
+     */
+    public void offer(final M message) {
+        queue.offer(message);
+        if (queue.size() >= limit) {
+            pause();
+        }
+    }
+
+    /**
+     * Lowers the number of buffered messages above which the receiver is paused - never above the capacity.
+     *
+     * @param maxBufferedMessages The number of messages the consumer still accepts.
+     */
+    public void limit(final int maxBufferedMessages) {
+        limit = Math.max(1, Math.min(capacity, maxBufferedMessages));
+        if (queue.size() >= limit) {
+            pause();
+        }
+    }
+
+    /**
+     * Retrieves the next message, waiting up to the given timeout.
+     *
+     * @param timeoutInMillis The maximum time to wait, in milliseconds.
+     * @return the next message, or {@code null} if none was received in time.
+     */
+    public M poll(final long timeoutInMillis) {
+        final M message;
+        try {
+            message = queue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for messages.", e);
+        }
+        if (queue.size() <= limit / 2) {
+            synchronized (this) {
+                if (paused) {
+                    resume.run();
+                    paused = false;
+                }
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Pauses the receiver, so that no more messages are buffered.
+     *
+     * @return the number of messages left in the buffer.
+     */
+    public int stop() {
+        pause();
+        return queue.size();
+    }
+
+    private synchronized void pause() {
+        if (!paused) {
+            pause.run();
+            paused = true;
+        }
+    }
+
+    /**
+     * @return the number of buffered messages.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * @return whether the receiver is paused.
+     */
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+}
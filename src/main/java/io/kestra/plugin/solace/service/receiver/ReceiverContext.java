@@ -1,15 +1,56 @@
 package io.kestra.plugin.solace.service.receiver;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
+import lombok.Builder;
+
 /**
  * Wraps all options for receiving messages.
  *
  * @param maxDuration The maximum number of messages to be received per poll.
  * @param maxMessages The maximum time to wait for receiving messages.
  * @param messageSelector The message selector to be used for receiving messages.
+ * @param chunkBufferSize The maximum number of chunk bytes kept in memory while reassembling payloads.
+ * @param chunkTimeout The maximum time to wait for all the chunks of a payload.
+ * @param chunkSpillDirectory The directory for chunks exceeding the reassembly buffer - can be {@code null}.
+ * @param acknowledgementMode The strategy for acknowledging messages - defaults to {@link AcknowledgementModes#IMMEDIATE}.
+ * @param acknowledgementBatchSize The number of messages acknowledged at once in {@link AcknowledgementModes#BATCHED} mode.
+ * @param acknowledgementInterval The maximum time a message waits for its acknowledgement in {@link AcknowledgementModes#BATCHED} mode.
+ * @param asyncReceive Whether messages are received asynchronously into a {@link ReceiveBuffer}.
+ * @param receiveBufferCapacity The number of messages buffered before the receiver is paused, when receiving asynchronously.
+ * @param deserializationParallelism The number of threads deserializing payloads - defaults to {@code 1}, the receiving thread.
+ * @param payloadMode The representation of received payloads - defaults to {@link PayloadModes#DESERIALIZED}.
+ * @param idleTimeout The maximum time without receiving any message before the poll returns - {@code null} to disable.
  */
+@Builder
 public record ReceiverContext(Duration maxDuration,
     Integer maxMessages,
-    String messageSelector) {
+    String messageSelector,
+    Long chunkBufferSize,
+    Duration chunkTimeout,
+    Path chunkSpillDirectory,
+    AcknowledgementModes acknowledgementMode,
+    Integer acknowledgementBatchSize,
+    Duration acknowledgementInterval,
+    boolean asyncReceive,
+    Integer receiveBufferCapacity,
+    Integer deserializationParallelism,
+    PayloadModes payloadMode,
+    Duration idleTimeout) {
+
+    public ReceiverContext {
+        chunkBufferSize = chunkBufferSize != null ? chunkBufferSize : ChunkAssembler.DEFAULT_MAX_BUFFERED_BYTES;
+        chunkTimeout = chunkTimeout != null ? chunkTimeout : ChunkAssembler.DEFAULT_TIMEOUT;
+        acknowledgementMode = acknowledgementMode != null ? acknowledgementMode : AcknowledgementModes.IMMEDIATE;
+        acknowledgementBatchSize = acknowledgementBatchSize != null ? acknowledgementBatchSize : MessageAcknowledger.DEFAULT_BATCH_SIZE;
+        acknowledgementInterval = acknowledgementInterval != null ? acknowledgementInterval : MessageAcknowledger.DEFAULT_INTERVAL;
+        receiveBufferCapacity = receiveBufferCapacity != null ? receiveBufferCapacity : ReceiveBuffer.DEFAULT_CAPACITY;
+        deserializationParallelism = deserializationParallelism != null ? deserializationParallelism : 1;
+        payloadMode = payloadMode != null ? payloadMode : PayloadModes.DESERIALIZED;
+    }
+
+    public ReceiverContext(Duration maxDuration, Integer maxMessages, String messageSelector) {
+        this(maxDuration, maxMessages, messageSelector, null, null, null, null, null, null, false, null, null, null, null);
+    }
 }
@@ -0,0 +1,250 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+import com.solace.messaging.MessagingService;
+import com.solace.messaging.PersistentMessageReceiverBuilder;
+import com.solace.messaging.receiver.InboundMessage;
+import com.solace.messaging.receiver.PersistentMessageReceiver;
+import com.solace.messaging.resources.Queue;
+
+import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.service.MessageChunks;
+import io.kestra.plugin.solace.service.receiver.SolacePersistentMessageReceiver.InboundMessageObject;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Streams messages from a Solace queue through a single long-lived receiver.
+ * <p>
+ * Messages are pulled from the receiver only when requested downstream, so that the broker stops delivering once
+ * the receiver window is full. A message is acknowledged when the next one is requested, i.e. once downstream
+ * processed it. Messages that cannot be decoded are logged and acknowledged, so that they are not redelivered
+ * forever. On connection or receiver failure, the service is disconnected and connected again with an exponential
+ * backoff; messages not yet acknowledged are then redelivered.
+ */
+public final class SolaceMessageStream {
+
+    public static final Duration DEFAULT_MIN_BACKOFF = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(1);
+
+    // how often the receive loop checks whether the stream was stopped.
+    private static final long RECEIVE_TIMEOUT = Duration.ofSeconds(1).toMillis();
+    private static final long DEFAULT_TERMINATE_TIMEOUT = Duration.ofSeconds(10).toMillis();
+
+    private final Serde serde;
+    private final Logger logger;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    /**
+     * Creates a new {@link SolaceMessageStream} instance.
+     *
+     * @param serde The serde for message payload - must not be {@code null}.
+     * @param logger The logger - must not be {@code null}.
+     */
+    public SolaceMessageStream(final Serde serde, final Logger logger) {
+        this.serde = Objects.requireNonNull(serde, "serde cannot be null");
+        this.logger = Objects.requireNonNull(logger, "logger cannot be null");
+    }
+
+    /**
+     * Streams messages from the given queue, until {@link #stop()} is called.
+     *
+     * @param connector The function connecting a new {@link MessagingService} - the service is disconnected when the stream ends.
+     * @param queue The queue to receive messages from.
+     * @param context The receiver context - only the message selector, chunk and payload options are used.
+     * @param minBackoff The delay before the first reconnection attempt.
+     * @param maxBackoff The maximum delay between two reconnection attempts.
+     * @return a new {@link Flux} of received messages.
+     */
+    public Flux<InboundMessageObject> stream(final Callable<MessagingService> connector,
+        final Queue queue,
+        final ReceiverContext context,
+        final Duration minBackoff,
+        final Duration maxBackoff) {
+        return Flux.<InboundMessageObject, Session>generate(
+                () -> new Session(connector.call(), queue, context),
+                this::next,
+                Session::close
+            )
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff)
+                .maxBackoff(maxBackoff)
+                .transientErrors(true)
+                .filter(error -> running.get())
+                .doBeforeRetry(signal -> logger.warn(
+                    "Failed to receive messages from queue '{}', reconnecting (attempt {}).",
+                    queue.getName(),
+                    signal.totalRetriesInARow() + 1,
+                    signal.failure()
+                ))
+            )
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Session next(final Session session, final SynchronousSink<InboundMessageObject> sink) {
+        // the previous message was processed downstream, as the next one is only requested afterward.
+        session.acknowledgeDelivered();
+
+        while (running.get()) {
+            // chunks of expired groups will never be reassembled, redelivering them would not help.
+            session.assembler.expire().forEach(session.receiver::ack);
+
+            final InboundMessage inboundMessage = session.receiver.receiveMessage(RECEIVE_TIMEOUT);
+            if (inboundMessage == null) {
+                continue;
+            }
+
+            final String group = inboundMessage.getProperty(MessageChunks.GROUP_PROPERTY);
+            if (group == null) {
+                Optional<InboundMessageObject> object = decode(session, List.of(inboundMessage), () ->
+                    SolacePersistentMessageReceiver.toMessageObject(
+                        serde,
+                        inboundMessage,
+                        inboundMessage.getPayloadAsBytes(),
+                        inboundMessage.getProperties(),
+                        session.payloadMode
+                    )
+                );
+                if (object.isPresent()) {
+                    sink.next(object.get());
+                    return session;
+                }
+                continue;
+            }
+
+            final Optional<ChunkAssembler.Assembled<InboundMessage>> assembled;
+            try {
+                assembled = session.assembler.add(
+                    group,
+                    Integer.parseInt(inboundMessage.getProperty(MessageChunks.SEQUENCE_PROPERTY)),
+                    Integer.parseInt(inboundMessage.getProperty(MessageChunks.TOTAL_PROPERTY)),
+                    inboundMessage.getPayloadAsBytes(),
+                    inboundMessage
+                );
+            } catch (RuntimeException e) {
+                // malformed chunk headers, or a group that cannot be buffered or reassembled.
+                discard(session, List.of(inboundMessage), e);
+                continue;
+            }
+            if (assembled.isPresent()) {
+                final List<InboundMessage> messages = assembled.get().messages();
+                final InboundMessage first = messages.getFirst();
+                Optional<InboundMessageObject> object = decode(session, messages, () ->
+                    SolacePersistentMessageReceiver.toMessageObject(
+                        serde,
+                        first,
+                        assembled.get().payload(),
+                        SolacePersistentMessageReceiver.assembledProperties(first),
+                        session.payloadMode
+                    )
+                );
+                if (object.isPresent()) {
+                    sink.next(object.get());
+                    return session;
+                }
+            }
+        }
+        sink.complete();
+        return session;
+    }
+
+    /**
+     * Decodes the given messages, marking them as delivered on success.
+     * <p>
+     * A message that cannot be decoded (e.g. malformed payload or unknown compression codec) would fail again on
+     * every redelivery, so it is logged and discarded instead of failing the stream and reconnecting.
+     */
+    private Optional<InboundMessageObject> decode(final Session session,
+        final List<InboundMessage> messages,
+        final Supplier<InboundMessageObject> decoder) {
+        try {
+            InboundMessageObject object = decoder.get();
+            session.delivered.addAll(messages);
+            return Optional.of(object);
+        } catch (RuntimeException e) {
+            discard(session, messages, e);
+            return Optional.empty();
+        }
+    }
+
+    private void discard(final Session session, final List<InboundMessage> messages, final Exception error) {
+        final InboundMessage first = messages.getFirst();
+        logger.warn(
+            "Discarding undecodable message [applicationMessageId={}, destination={}]: {}",
+            first.getApplicationMessageId(),
+            first.getDestinationName(),
+            error.getMessage(),
+            error
+        );
+        messages.forEach(session.receiver::ack);
+    }
+
+    /**
+     * Stops the stream - returns immediately, the stream completes once the pending receive times out.
+     */
+    public void stop() {
+        running.set(false);
+    }
+
+    /**
+     * A connected service and its bound receiver.
+     */
+    private final class Session {
+        private final MessagingService service;
+        private final PersistentMessageReceiver receiver;
+        private final ChunkAssembler<InboundMessage> assembler;
+        private final PayloadModes payloadMode;
+        private final List<InboundMessage> delivered = new ArrayList<>();
+
+        private Session(final MessagingService service, final Queue queue, final ReceiverContext context) {
+            this.service = service;
+            this.payloadMode = context.payloadMode();
+            try {
+                PersistentMessageReceiverBuilder builder = service.createPersistentMessageReceiverBuilder();
+                Optional.ofNullable(context.messageSelector())
+                    .ifPresent(builder::withMessageSelector);
+                this.receiver = builder
+                    .build(queue)
+                    .start();
+            } catch (RuntimeException e) {
+                service.disconnect();
+                throw e;
+            }
+            this.assembler = new ChunkAssembler<>(
+                context.chunkBufferSize(),
+                context.chunkTimeout(),
+                context.chunkSpillDirectory(),
+                logger
+            );
+            logger.info("Receiving messages from queue '{}'.", queue.getName());
+        }
+
+        private void acknowledgeDelivered() {
+            delivered.forEach(receiver::ack);
+            delivered.clear();
+        }
+
+        private void close() {
+            try {
+                receiver.terminate(DEFAULT_TERMINATE_TIMEOUT);
+            } catch (RuntimeException e) {
+                logger.debug("Failed to terminate receiver.", e);
+            } finally {
+                assembler.close();
+                service.disconnect();
+            }
+        }
+    }
+}
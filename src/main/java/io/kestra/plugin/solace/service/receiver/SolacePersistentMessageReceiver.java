@@ -1,5 +1,7 @@
 package io.kestra.plugin.solace.service.receiver;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,13 +14,20 @@ import com.solace.messaging.receiver.InboundMessage;
 import com.solace.messaging.receiver.PersistentMessageReceiver;
 import com.solace.messaging.resources.Queue;
 
+import io.kestra.plugin.solace.serde.CompressionCodecs;
 import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.service.MessageChunks;
 
 /**
  * Service for consuming messages.
  */
 public class SolacePersistentMessageReceiver {
 
+    private static final long DEFAULT_TERMINATE_TIMEOUT = Duration.ofSeconds(10).toMillis();
+
+    // number of deserialized messages each worker can get ahead of the oldest one still being deserialized.
+    private static final int REORDER_BUFFER_SIZE_PER_WORKER = 16;
+
     private final Serde serde;
     private final Logger logger;
 
@@ -34,72 +43,253 @@ public class SolacePersistentMessageReceiver {
     }
 
     /**
-     * Polls messages from the given Solace queue.
+     * Polls messages from the given Solace queue - the given service is never disconnected.
+     * <p>
+     * Messages still pending acknowledgement when receiving completes are acknowledged after
+     * {@link MessageListener#onComplete()} returns, and never if it fails - they are then redelivered.
+     * <p>
+     * Chunks with invalid headers, or whose group cannot be reassembled, are logged and acknowledged, so that they
+     * are not redelivered.
+     * <p>
+     * When receiving asynchronously, messages buffered but not yet handed to the listener once the poll is complete
+     * are left unacknowledged, and redelivered.
      *
      * @param messagingService The {@link MessagingService}.
      * @param context The receiver context.
      * @param listener The message listener.
+     * @return the {@link PollResult}.
      */
-    public int poll(final MessagingService messagingService,
+    public PollResult poll(final MessagingService messagingService,
         final ReceiverContext context,
         final Queue queue,
         final MessageListener listener) {
 
-        try {
-            final long maxDurationInMillis = context.maxDuration().toMillis();
-            final long start = System.currentTimeMillis();
+        final long maxDurationInMillis = context.maxDuration().toMillis();
+        final long idleTimeoutInMillis = context.idleTimeout() != null ? context.idleTimeout().toMillis() : Long.MAX_VALUE;
+        final long start = System.currentTimeMillis();
+
+        PersistentMessageReceiverBuilder builder = messagingService.createPersistentMessageReceiverBuilder();
+        Optional.ofNullable(context.messageSelector())
+            .ifPresent(builder::withMessageSelector);
+
+        final PersistentMessageReceiver receiver = builder
+            .build(queue)
+            .start();
 
-            PersistentMessageReceiverBuilder builder = messagingService.createPersistentMessageReceiverBuilder();
-            Optional.ofNullable(context.messageSelector())
-                .ifPresent(builder::withMessageSelector);
+        final MessageAcknowledger<InboundMessage> acknowledger = new MessageAcknowledger<>(
+            receiver::ack,
+            context.acknowledgementMode(),
+            context.acknowledgementBatchSize(),
+            context.acknowledgementInterval()
+        );
 
-            final PersistentMessageReceiver receiver = builder
-                .build(queue)
-                .start();
+        // network I/O then runs on the receiver's dispatch thread, while messages are processed on the calling one.
+        final ReceiveBuffer<InboundMessage> buffer = context.asyncReceive()
+            ? new ReceiveBuffer<>(context.receiveBufferCapacity(), receiver::pause, receiver::resume)
+            : null;
+        if (buffer != null) {
+            buffer.limit(context.maxMessages());
+        }
+
+        try (
+            ChunkAssembler<InboundMessage> assembler = new ChunkAssembler<>(
+                context.chunkBufferSize(),
+                context.chunkTimeout(),
+                context.chunkSpillDirectory(),
+                logger
+            );
+            OrderedExecutor<InboundMessageObject> decoder = new OrderedExecutor<>(
+                context.deserializationParallelism(),
+                context.deserializationParallelism() * REORDER_BUFFER_SIZE_PER_WORKER,
+                "solace-deserializer"
+            )
+        ) {
+            if (buffer != null) {
+                receiver.receiveAsync(buffer::offer);
+            }
 
             long timeElapsedInMillis;
+            long lastMessageAt = start;
             int totalReceivedMessages = 0;
+            PollExitReasons exitReason;
             do {
-                timeElapsedInMillis = System.currentTimeMillis() - start;
-                long maxTimeout = Math.max(0, maxDurationInMillis - timeElapsedInMillis);
+                final long now = System.currentTimeMillis();
+                long maxTimeout = Math.max(0, maxDurationInMillis - (now - start));
+                // do not block past the time pending acknowledgements are due, nor past the idle timeout.
+                maxTimeout = Math.min(maxTimeout, Math.max(1, acknowledger.nextFlushDelay()));
+                if (idleTimeoutInMillis != Long.MAX_VALUE) {
+                    maxTimeout = Math.min(maxTimeout, Math.max(1, idleTimeoutInMillis - (now - lastMessageAt)));
+                }
 
-                InboundMessage inboundMessage = receiver.receiveMessage(maxTimeout);
+                InboundMessage inboundMessage = buffer != null ? buffer.poll(maxTimeout) : receiver.receiveMessage(maxTimeout);
                 if (inboundMessage != null) {
-                    Object payload = serde.deserialize(inboundMessage.getPayloadAsBytes());
-                    InboundMessageObject message = new InboundMessageObject(
-                        inboundMessage.getSenderId(),
-                        inboundMessage.getSenderTimestamp(),
-                        inboundMessage.getDestinationName(),
-                        inboundMessage.getApplicationMessageId(),
-                        inboundMessage.getApplicationMessageType(),
-                        inboundMessage.getCorrelationId(),
-                        inboundMessage.isRedelivered(),
-                        payload,
-                        inboundMessage.getProperties()
-
-                    );
-                    listener.onMessage(message);
-                    totalReceivedMessages++;
-                    receiver.ack(inboundMessage);
+                    lastMessageAt = System.currentTimeMillis();
+                    final String group = inboundMessage.getProperty(MessageChunks.GROUP_PROPERTY);
+                    if (group == null) {
+                        // messages are only acknowledged once handed to the listener, in arrival order.
+                        decoder.submit(
+                            () -> toMessageObject(serde, inboundMessage, inboundMessage.getPayloadAsBytes(), inboundMessage.getProperties(), context.payloadMode()),
+                            object ->
+                            {
+                                listener.onMessage(object);
+                                acknowledger.acknowledge(inboundMessage);
+                            }
+                        );
+                        totalReceivedMessages++;
+                    } else {
+                        // chunks are only acknowledged once their payload is reassembled and handed to the listener.
+                        Optional<ChunkAssembler.Assembled<InboundMessage>> assembled;
+                        try {
+                            assembled = assembler.add(
+                                group,
+                                Integer.parseInt(inboundMessage.getProperty(MessageChunks.SEQUENCE_PROPERTY)),
+                                Integer.parseInt(inboundMessage.getProperty(MessageChunks.TOTAL_PROPERTY)),
+                                inboundMessage.getPayloadAsBytes(),
+                                inboundMessage
+                            );
+                        } catch (RuntimeException e) {
+                            // an invalid chunk would fail every poll once redelivered: it is dropped instead.
+                            discardChunk(inboundMessage, acknowledger, e);
+                            assembled = Optional.empty();
+                        }
+                        if (assembled.isPresent()) {
+                            final ChunkAssembler.Assembled<InboundMessage> chunks = assembled.get();
+                            final InboundMessage first = chunks.messages().getFirst();
+                            decoder.submit(
+                                () -> toMessageObject(serde, first, chunks.payload(), assembledProperties(first), context.payloadMode()),
+                                object ->
+                                {
+                                    listener.onMessage(object);
+                                    chunks.messages().forEach(acknowledger::acknowledge);
+                                }
+                            );
+                            totalReceivedMessages++;
+                        }
+                    }
+                }
+                if (buffer != null) {
+                    // messages buffered past maxMessages would only be redelivered.
+                    buffer.limit(context.maxMessages() - totalReceivedMessages);
                 }
-            } while (!isCompleted(context, totalReceivedMessages, timeElapsedInMillis));
+                // chunks of expired groups will never be reassembled, redelivering them would not help.
+                assembler.expire().forEach(acknowledger::acknowledge);
+                decoder.drain(false);
+                acknowledger.maybeFlush();
 
-            logger.debug("Received {} messages in {} milliseconds.", totalReceivedMessages, timeElapsedInMillis);
-            return totalReceivedMessages;
+                final long end = System.currentTimeMillis();
+                timeElapsedInMillis = end - start;
+                exitReason = exitReason(context, totalReceivedMessages, timeElapsedInMillis, end - lastMessageAt, idleTimeoutInMillis);
+            } while (exitReason == null);
+
+            decoder.drain(true);
+            if (buffer != null) {
+                final int unprocessed = buffer.stop();
+                if (unprocessed > 0) {
+                    logger.debug("{} buffered messages left unacknowledged for redelivery.", unprocessed);
+                }
+            }
+            listener.onComplete();
+            acknowledger.flush();
+
+            if (assembler.pendingGroups() > 0) {
+                logger.debug("{} incomplete chunk groups left unacknowledged for redelivery.", assembler.pendingGroups());
+            }
+            logger.debug("Received {} messages in {} milliseconds ({}).", totalReceivedMessages, timeElapsedInMillis, exitReason);
+            return new PollResult(totalReceivedMessages, Duration.ofMillis(timeElapsedInMillis), exitReason);
         } finally {
-            messagingService.disconnect();
+            receiver.terminate(DEFAULT_TERMINATE_TIMEOUT);
         }
     }
 
-    private static boolean isCompleted(ReceiverContext context,
+    private void discardChunk(final InboundMessage message,
+        final MessageAcknowledger<InboundMessage> acknowledger,
+        final Exception error) {
+        logger.warn(
+            "Discarding invalid message chunk [applicationMessageId={}, destination={}]: {}",
+            message.getApplicationMessageId(),
+            message.getDestinationName(),
+            error.getMessage(),
+            error
+        );
+        acknowledger.acknowledge(message);
+    }
+
+    /**
+     * Gets the properties of a reassembled message, without the chunk properties.
+     *
+     * @param first The first received chunk.
+     * @return the message properties.
+     */
+    static Map<String, String> assembledProperties(final InboundMessage first) {
+        Map<String, String> properties = new HashMap<>(first.getProperties());
+        properties.remove(MessageChunks.GROUP_PROPERTY);
+        properties.remove(MessageChunks.SEQUENCE_PROPERTY);
+        properties.remove(MessageChunks.TOTAL_PROPERTY);
+        return properties;
+    }
+
+    static InboundMessageObject toMessageObject(final Serde serde,
+        final InboundMessage inboundMessage,
+        final byte[] data,
+        final Map<String, String> properties,
+        final PayloadModes payloadMode) {
+        // compressed messages are decompressed transparently, whatever the serde.
+        final String codec = inboundMessage.getProperty(CompressionCodecs.MESSAGE_PROPERTY);
+        Object payload = payloadMode.decode(CompressionCodecs.decompress(data, codec), serde);
+        Map<String, String> messageProperties = properties;
+        if (codec != null && properties != null) {
+            messageProperties = new HashMap<>(properties);
+            messageProperties.remove(CompressionCodecs.MESSAGE_PROPERTY);
+        }
+        return new InboundMessageObject(
+            inboundMessage.getSenderId(),
+            inboundMessage.getSenderTimestamp(),
+            inboundMessage.getDestinationName(),
+            inboundMessage.getApplicationMessageId(),
+            inboundMessage.getApplicationMessageType(),
+            inboundMessage.getCorrelationId(),
+            inboundMessage.isRedelivered(),
+            payload,
+            messageProperties
+        );
+    }
+
+    private static PollExitReasons exitReason(ReceiverContext context,
         int totalReceivedMessages,
-        long timeElapsedInMillis) {
-        return totalReceivedMessages >= context.maxMessages() || timeElapsedInMillis >= context.maxDuration().toMillis();
+        long timeElapsedInMillis,
+        long idleTimeInMillis,
+        long idleTimeoutInMillis) {
+        if (totalReceivedMessages >= context.maxMessages()) {
+            return PollExitReasons.MAX_MESSAGES;
+        }
+        if (timeElapsedInMillis >= context.maxDuration().toMillis()) {
+            return PollExitReasons.MAX_DURATION;
+        }
+        if (idleTimeInMillis >= idleTimeoutInMillis) {
+            return PollExitReasons.IDLE_TIMEOUT;
+        }
+        return null;
+    }
+
+    /**
+     * Result of a poll.
+     *
+     * @param messagesCount The number of messages handed to the listener.
+     * @param elapsed The time spent receiving messages.
+     * @param exitReason The reason the poll returned.
+     */
+    public record PollResult(int messagesCount, Duration elapsed, PollExitReasons exitReason) {
     }
 
     public interface MessageListener {
 
         void onMessage(final InboundMessageObject message);
+
+        /**
+         * Invoked once all messages were received, before pending messages are acknowledged.
+         */
+        default void onComplete() {
+        }
     }
 
     /**
@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,10 @@ import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.solace.client.MessagingServiceFactory;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.MessageChunks;
+import io.kestra.plugin.solace.service.publisher.DeliveryModes;
 import io.kestra.plugin.solace.service.publisher.SolacePersistentMessagePublisher;
+import io.kestra.plugin.solace.service.receiver.PollExitReasons;
 import io.kestra.plugin.solace.service.receiver.QueueTypes;
 
 import jakarta.inject.Inject;
@@ -84,4 +88,145 @@ class ConsumeTest extends BaseSolaceIT {
             Assertions.assertEquals(1, result.size());
         }
     }
+
+    @Test
+    void testConsumerTaskGivenIdleTimeout() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        createQueueWithSubscriptionTopic("idle", "idle-topic");
+
+        Consume task = Consume.builder()
+            .messageDeserializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(30)))
+            .idleTimeout(Property.ofValue(Duration.ofSeconds(1)))
+            .queueName(Property.ofValue("idle"))
+            .queueType(Property.ofValue(QueueTypes.DURABLE_EXCLUSIVE))
+            .build();
+
+        // When
+        long start = System.nanoTime();
+        Consume.Output runOutput = task.run(runContext);
+
+        // Then
+        Assertions.assertEquals(0, runOutput.getMessagesCount());
+        Assertions.assertEquals(PollExitReasons.IDLE_TIMEOUT, runOutput.getExitReason());
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(30)) < 0);
+    }
+
+    @Test
+    void testConsumerTaskGivenChunkedMessage() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        createQueueWithSubscriptionTopic("chunked", "chunked-topic");
+        String payload = "0123456789".repeat(350);
+
+        Produce produce = Produce.builder()
+            .from(Map.of("payload", payload, "properties", Map.of("key", "value")))
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .chunkSize(Property.ofValue(1000))
+            .topicDestination(Property.ofValue("chunked-topic"))
+            .build();
+        Assertions.assertEquals(1, produce.run(runContext).getMessagesCount());
+
+        Consume task = Consume.builder()
+            .messageDeserializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(10)))
+            .maxMessages(Property.ofValue(1))
+            .queueName(Property.ofValue("chunked"))
+            .queueType(Property.ofValue(QueueTypes.DURABLE_EXCLUSIVE))
+            .build();
+
+        // When
+        Consume.Output runOutput = task.run(runContext);
+
+        // Then: the 4 chunks are reassembled into a single message, without the chunk properties.
+        Assertions.assertEquals(1, runOutput.getMessagesCount());
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(runOutput.getUri()), FileSerde.BUFFER_SIZE)) {
+            List<Object> result = new ArrayList<>();
+            FileSerde.read(is, result::add);
+            Assertions.assertEquals(1, result.size());
+
+            Map<?, ?> message = (Map<?, ?>) result.getFirst();
+            Assertions.assertEquals(payload, message.get("payload"));
+            Map<?, ?> properties = (Map<?, ?>) message.get("properties");
+            Assertions.assertEquals("value", properties.get("key"));
+            Assertions.assertFalse(properties.containsKey(MessageChunks.GROUP_PROPERTY));
+        }
+    }
+
+    @Test
+    void testConsumerTaskGivenInvalidChunk() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        createQueueWithSubscriptionTopic("invalid-chunk", "invalid-chunk-topic");
+
+        Produce produce = Produce.builder()
+            .from(List.of(
+                Map.of("payload", "chunk", "properties", Map.of(
+                    MessageChunks.GROUP_PROPERTY, "invalid",
+                    MessageChunks.SEQUENCE_PROPERTY, "not-a-number",
+                    MessageChunks.TOTAL_PROPERTY, "2"
+                )),
+                Map.of("payload", "valid")
+            ))
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .topicDestination(Property.ofValue("invalid-chunk-topic"))
+            .build();
+        Assertions.assertEquals(2, produce.run(runContext).getMessagesCount());
+
+        Consume task = Consume.builder()
+            .messageDeserializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(10)))
+            .maxMessages(Property.ofValue(1))
+            .queueName(Property.ofValue("invalid-chunk"))
+            .queueType(Property.ofValue(QueueTypes.DURABLE_EXCLUSIVE))
+            .build();
+
+        // When
+        Consume.Output runOutput = task.run(runContext);
+
+        // Then: the invalid chunk is dropped without failing the poll.
+        Assertions.assertEquals(1, runOutput.getMessagesCount());
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(runOutput.getUri()), FileSerde.BUFFER_SIZE)) {
+            List<Object> result = new ArrayList<>();
+            FileSerde.read(is, result::add);
+            Assertions.assertEquals("valid", ((Map<?, ?>) result.getFirst()).get("payload"));
+        }
+
+        // and acknowledged, so that it is not redelivered to the next poll.
+        Consume next = Consume.builder()
+            .messageDeserializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(2)))
+            .queueName(Property.ofValue("invalid-chunk"))
+            .queueType(Property.ofValue(QueueTypes.DURABLE_EXCLUSIVE))
+            .build();
+        Consume.Output nextOutput = next.run(runContextFactory.of());
+        Assertions.assertEquals(0, nextOutput.getMessagesCount());
+    }
 }
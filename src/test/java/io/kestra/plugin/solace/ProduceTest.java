@@ -1,7 +1,12 @@
 package io.kestra.plugin.solace;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,8 +16,13 @@ import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.checkpoint.Checkpoint;
+import io.kestra.plugin.solace.service.checkpoint.CheckpointStore;
 import io.kestra.plugin.solace.service.publisher.DeliveryModes;
+import io.kestra.plugin.solace.service.receiver.QueueTypes;
 
 import jakarta.inject.Inject;
 
@@ -66,4 +76,202 @@ class ProduceTest extends BaseSolaceIT {
 
         Assertions.assertEquals(2, runOutput.getMessagesCount());
     }
+
+    @Test
+    void testGivenPersistentWithMaxInFlightMessages() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Produce task = Produce.builder()
+            .from(
+                IntStream.range(0, 50)
+                    .mapToObj(i -> Map.of("payload", "msg" + i))
+                    .toList()
+            )
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .maxInFlightMessages(Property.ofValue(10))
+            .topicDestination(Property.ofValue("topic"))
+            .build();
+
+        Produce.Output runOutput = task.run(runContext);
+
+        Assertions.assertEquals(50, runOutput.getMessagesCount());
+    }
+
+    @Test
+    void testGivenParallelism() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Produce task = Produce.builder()
+            .from(
+                IntStream.range(0, 100)
+                    .mapToObj(i -> Map.of(
+                        "payload", "msg" + i,
+                        "properties", Map.of("JMSXGroupID", "key" + (i % 7))
+                    ))
+                    .toList()
+            )
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .parallelism(Property.ofValue(4))
+            .topicDestination(Property.ofValue("topic"))
+            .build();
+
+        Produce.Output runOutput = task.run(runContext);
+
+        Assertions.assertEquals(100, runOutput.getMessagesCount());
+    }
+
+    @Test
+    void testGivenTransacted() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Produce task = Produce.builder()
+            .from(
+                IntStream.range(0, 25)
+                    .mapToObj(i -> Map.of("payload", "msg" + i))
+                    .toList()
+            )
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.TRANSACTED))
+            .commitBatchSize(Property.ofValue(10))
+            .commitInterval(Property.ofValue(Duration.ofMinutes(1)))
+            .topicDestination(Property.ofValue("topic"))
+            .build();
+
+        Produce.Output runOutput = task.run(runContext);
+
+        Assertions.assertEquals(25, runOutput.getMessagesCount());
+        // two full transactions, then the remaining 5 messages committed on flush.
+        Assertions.assertEquals(3, metricValue(runContext, "commits"));
+        Assertions.assertEquals(0, metricValue(runContext, "rollbacks"));
+    }
+
+    @Test
+    void testGivenTransactedAndFailure() throws Exception {
+        createQueueWithSubscriptionTopic("transacted", "transacted/eu");
+
+        // the last message has no 'region' property, so that its topic cannot be resolved.
+        List<Map<String, Object>> messages = new ArrayList<>();
+        IntStream.range(0, 5).forEach(i -> messages.add(Map.of("payload", "msg" + i, "properties", Map.of("region", "eu"))));
+        messages.add(Map.of("payload", "poison"));
+
+        Produce task = Produce.builder()
+            .from(messages)
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.TRANSACTED))
+            .commitBatchSize(Property.ofValue(100))
+            .commitInterval(Property.ofValue(Duration.ofMinutes(1)))
+            .topicDestination(Property.ofValue("transacted/${region}"))
+            .build();
+
+        Assertions.assertThrows(Exception.class, () -> task.run(runContextFactory.of()));
+
+        // the open transaction was rolled back: none of the published messages must be visible.
+        Consume consume = Consume.builder()
+            .messageDeserializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(2)))
+            .queueName(Property.ofValue("transacted"))
+            .queueType(Property.ofValue(QueueTypes.DURABLE_EXCLUSIVE))
+            .build();
+
+        Assertions.assertEquals(0, consume.run(runContextFactory.of()).getMessagesCount());
+    }
+
+    @Test
+    void testGivenResumableAndSavedCheckpoint() throws Exception {
+        Produce task = Produce.builder()
+            .id(ProduceTest.class.getSimpleName())
+            .type(Produce.class.getName())
+            .from(
+                IntStream.range(0, 25)
+                    .mapToObj(i -> Map.of("payload", "msg" + i))
+                    .toList()
+            )
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .resumable(Property.ofValue(true))
+            .checkpointKey(Property.ofValue("resume"))
+            .topicDestination(Property.ofValue("topic"))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        // a previous attempt acknowledged the first 10 messages.
+        CheckpointStore store = new CheckpointStore(runContext, task.getId(), "resume");
+        store.save(new Checkpoint(10, null));
+
+        Produce.Output runOutput = task.run(runContext);
+
+        Assertions.assertEquals(15, runOutput.getMessagesCount());
+        Assertions.assertEquals(10, metricValue(runContext, "resumed.messages"));
+        Assertions.assertEquals(15, metricValue(runContext, "messages"));
+        // the checkpoint is deleted once all messages are acknowledged.
+        Assertions.assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void testGivenStoreReceipts() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Produce task = Produce.builder()
+            .from(
+                IntStream.range(0, 20)
+                    .mapToObj(i -> Map.of("payload", "msg" + i))
+                    .toList()
+            )
+            .messageSerializer(Property.ofValue(Serdes.STRING))
+            .username(Property.ofValue(solaceContainer.getUsername()))
+            .password(Property.ofValue(solaceContainer.getPassword()))
+            .vpn(Property.ofValue(solaceContainer.getVpn()))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .deliveryMode(Property.ofValue(DeliveryModes.PERSISTENT))
+            .maxInFlightMessages(Property.ofValue(5))
+            .storeReceipts(Property.ofValue(true))
+            .topicDestination(Property.ofValue("topic"))
+            .build();
+
+        Produce.Output runOutput = task.run(runContext);
+
+        Assertions.assertEquals(20, runOutput.getMessagesCount());
+        Assertions.assertNotNull(runOutput.getReceipts());
+        try (InputStream is = runContext.storage().getFile(runOutput.getReceipts())) {
+            List<Long> indexes = FileSerde.readAll(is, Map.class)
+                .map(receipt -> ((Number) receipt.get("index")).longValue())
+                .sort()
+                .collectList()
+                .block();
+            Assertions.assertEquals(LongStream.range(0, 20).boxed().toList(), indexes);
+        }
+    }
+
+    private static double metricValue(final RunContext runContext, final String name) {
+        return runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals(name))
+            .mapToDouble(metric -> ((Number) metric.getValue()).doubleValue())
+            .sum();
+    }
 }
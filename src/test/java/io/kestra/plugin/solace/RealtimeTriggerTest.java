@@ -0,0 +1,100 @@
+package io.kestra.plugin.solace;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.solace.Service;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.LocalFlowRepositoryLoader;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.solace.serde.CompressionCodecs;
+import io.kestra.plugin.solace.service.MessageChunks;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest(startRunner = true, startScheduler = true)
+class RealtimeTriggerTest extends BaseSolaceIT {
+
+    static final String TEST_QUEUE = "realtime";
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    protected LocalFlowRepositoryLoader repositoryLoader;
+
+    @Test
+    void testRealtimeTrigger() throws Exception {
+        CountDownLatch queueCount = new CountDownLatch(2);
+        Flux<Execution> receive = TestsUtils.receive(executionQueue, execution ->
+        {
+            if (execution.getLeft().getFlowId().equals("realtime")) {
+                queueCount.countDown();
+            }
+        });
+
+        createQueueWithSubscriptionTopic(TEST_QUEUE, "realtime-topic");
+
+        Produce task = Produce.builder()
+            .id(RealtimeTriggerTest.class.getSimpleName())
+            .type(Produce.class.getName())
+            .username(Property.ofValue(SOLACE_USER))
+            .password(Property.ofValue(SOLACE_PASSWORD))
+            .vpn(Property.ofValue(SOLACE_VPN))
+            .host(Property.ofValue(solaceContainer.getOrigin(Service.SMF)))
+            .topicDestination(Property.ofValue("realtime-topic"))
+            .from(
+                List.of(
+                    // cannot be decoded: must be discarded without stopping the stream.
+                    ImmutableMap.builder()
+                        .put("payload", "poison")
+                        .put("properties", ImmutableMap.of(CompressionCodecs.MESSAGE_PROPERTY, "unknown"))
+                        .build(),
+                    // invalid chunk: its sequence is out of the range of its group.
+                    ImmutableMap.builder()
+                        .put("payload", "chunk")
+                        .put("properties", ImmutableMap.of(
+                            MessageChunks.GROUP_PROPERTY, "invalid",
+                            MessageChunks.SEQUENCE_PROPERTY, "5",
+                            MessageChunks.TOTAL_PROPERTY, "2"
+                        ))
+                        .build(),
+                    ImmutableMap.builder()
+                        .put("payload", "value1")
+                        .build(),
+                    ImmutableMap.builder()
+                        .put("payload", "value2")
+                        .build()
+                )
+            )
+            .build();
+
+        repositoryLoader.load(Objects.requireNonNull(RealtimeTriggerTest.class.getClassLoader().getResource("flows")));
+
+        task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        boolean await = queueCount.await(1, TimeUnit.MINUTES);
+        assertThat(await, is(true));
+        receive.blockLast();
+    }
+}
@@ -0,0 +1,96 @@
+package io.kestra.plugin.solace.client;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.solace.messaging.MessagingService;
+
+class MessagingServicePoolTest {
+
+    private static final Map<String, String> KEY = Map.of("solace.messaging.transport.host", "localhost:55555");
+
+    @Test
+    void shouldReuseConnectedServiceForSameKey() throws Exception {
+        try (MessagingServicePool pool = new MessagingServicePool(2, Duration.ofMinutes(5), Duration.ofSeconds(1))) {
+            MessagingServiceLease first = pool.acquire(KEY, () -> newService(new AtomicBoolean(true)));
+            MessagingServiceLease second = pool.acquire(KEY, () -> newService(new AtomicBoolean(true)));
+
+            Assertions.assertSame(first.service(), second.service());
+            Assertions.assertFalse(first.isReused());
+            Assertions.assertTrue(second.isReused());
+            Assertions.assertEquals(new MessagingServicePool.Stats(1, 1, 0, 1, 0), pool.stats());
+
+            first.close();
+            second.close();
+            Assertions.assertEquals(new MessagingServicePool.Stats(1, 1, 0, 0, 1), pool.stats());
+        }
+    }
+
+    @Test
+    void shouldEvictDisconnectedServiceOnCheckout() throws Exception {
+        try (MessagingServicePool pool = new MessagingServicePool(2, Duration.ofMinutes(5), Duration.ofSeconds(1))) {
+            AtomicBoolean connected = new AtomicBoolean(true);
+
+            MessagingServiceLease first = pool.acquire(KEY, () -> newService(connected));
+            first.close();
+            connected.set(false);
+
+            MessagingServiceLease second = pool.acquire(KEY, () -> newService(new AtomicBoolean(true)));
+            Assertions.assertNotSame(first.service(), second.service());
+            Assertions.assertEquals(1, pool.stats().evictions());
+        }
+    }
+
+    @Test
+    void shouldFailWhenMaxSessionsAreLeased() throws Exception {
+        try (MessagingServicePool pool = new MessagingServicePool(1, Duration.ofMinutes(5), Duration.ofMillis(100))) {
+            pool.acquire(KEY, () -> newService(new AtomicBoolean(true)));
+
+            Assertions.assertThrows(
+                TimeoutException.class,
+                () -> pool.acquire(Map.of("solace.messaging.transport.host", "other:55555"), () -> newService(new AtomicBoolean(true)))
+            );
+        }
+    }
+
+    @Test
+    void shouldDisconnectIdleServicesOnClose() throws Exception {
+        AtomicBoolean idle = new AtomicBoolean(true);
+        AtomicBoolean leased = new AtomicBoolean(true);
+        MessagingServicePool pool = new MessagingServicePool(2, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        pool.acquire(KEY, () -> newService(idle)).close();
+        MessagingServiceLease lease = pool.acquire(Map.of("solace.messaging.transport.host", "other:55555"), () -> newService(leased));
+        pool.close();
+
+        Assertions.assertFalse(idle.get());
+        Assertions.assertTrue(leased.get());
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.acquire(KEY, () -> newService(new AtomicBoolean(true))));
+
+        lease.close();
+        Assertions.assertFalse(leased.get());
+    }
+
+    private static MessagingService newService(AtomicBoolean connected) {
+        return (MessagingService) Proxy.newProxyInstance(
+            MessagingService.class.getClassLoader(),
+            new Class<?>[]{MessagingService.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "isConnected" -> connected.get();
+                case "disconnect" -> {
+                    connected.set(false);
+                    yield null;
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            }
+        );
+    }
+}
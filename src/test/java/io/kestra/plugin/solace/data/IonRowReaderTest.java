@@ -0,0 +1,38 @@
+package io.kestra.plugin.solace.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.serializers.FileSerde;
+
+class IonRowReaderTest {
+
+    @Test
+    void shouldResumeFromOffset() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < 5; i++) {
+            FileSerde.write(output, Map.of("payload", "msg" + i));
+        }
+        byte[] file = output.toByteArray();
+
+        List<IonRowReader.Row> rows = IonRowReader.read(new ByteArrayInputStream(file), 0, 0).collectList().block();
+        Assertions.assertEquals(5, rows.size());
+        Assertions.assertEquals(file.length, rows.getLast().nextOffset());
+
+        long offset = rows.get(2).nextOffset();
+        InputStream is = new ByteArrayInputStream(file);
+        is.skipNBytes(offset);
+        List<IonRowReader.Row> resumed = IonRowReader.read(is, 3, offset).collectList().block();
+
+        Assertions.assertEquals(2, resumed.size());
+        Assertions.assertEquals(3, resumed.getFirst().index());
+        Assertions.assertEquals("msg3", resumed.getFirst().value().get("payload"));
+        Assertions.assertEquals(file.length, resumed.getLast().nextOffset());
+    }
+}
@@ -0,0 +1,44 @@
+package io.kestra.plugin.solace.serde;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class AbstractJacksonSerdeTest {
+
+    @Test
+    void shouldReturnIndependentArraysGivenReusedBuffer() {
+        JsonSerde serde = new JsonSerde();
+
+        byte[] first = serde.serialize(Map.of("key", "first"));
+        byte[] second = serde.serialize(Map.of("key", "second"));
+
+        Assertions.assertEquals("first", serde.deserialize(first).get("key").asText());
+        Assertions.assertEquals("second", serde.deserialize(second).get("key").asText());
+    }
+
+    @Test
+    void shouldSerializeGivenPayloadLargerThanRetainedCapacity() {
+        JsonSerde serde = new JsonSerde();
+        String large = "x".repeat(OutputBuffer.MAX_RETAINED_CAPACITY + 1);
+
+        JsonNode node = serde.deserialize(serde.serialize(Map.of("key", large)));
+        Assertions.assertEquals(large, node.get("key").asText());
+
+        byte[] small = serde.serialize(Map.of("key", "small"));
+        Assertions.assertEquals("small", serde.deserialize(small).get("key").asText());
+    }
+
+    @Test
+    void shouldRoundTripIon() {
+        IonSerde serde = new IonSerde();
+
+        JsonNode node = serde.deserialize(serde.serialize(Map.of("key", "value", "count", 42)));
+
+        Assertions.assertEquals("value", node.get("key").asText());
+        Assertions.assertEquals(42, node.get("count").asInt());
+    }
+}
@@ -0,0 +1,75 @@
+package io.kestra.plugin.solace.serde;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class AbstractSchemaSerdeTest {
+
+    private static final String AVRO_SCHEMA = """
+        {
+          "type": "record",
+          "name": "Reading",
+          "fields": [
+            {"name": "id", "type": "int"},
+            {"name": "name", "type": "string"},
+            {"name": "value", "type": "double"}
+          ]
+        }
+        """;
+
+    private static final String PROTOBUF_SCHEMA = """
+        syntax = "proto3";
+        message Header {
+          string source = 1;
+        }
+        message Reading {
+          int32 id = 1;
+          string name = 2;
+          double value = 3;
+        }
+        """;
+
+    private static final Map<String, Object> DATA = Map.of("id", 42, "name", "sensor", "value", 1.5);
+
+    @Test
+    void shouldRoundTripAvro() {
+        Serde serde = Serdes.AVRO.create(Map.of(AbstractSchemaSerde.SCHEMA_CONFIG_NAME, AVRO_SCHEMA));
+
+        assertReading((JsonNode) serde.deserialize(serde.serialize(DATA)));
+    }
+
+    @Test
+    void shouldRoundTripProtobufGivenMessageType() {
+        Serde serde = Serdes.PROTOBUF.create(Map.of(
+            AbstractSchemaSerde.SCHEMA_CONFIG_NAME, PROTOBUF_SCHEMA,
+            ProtobufSerde.MESSAGE_TYPE_CONFIG_NAME, "Reading"
+        ));
+
+        assertReading((JsonNode) serde.deserialize(serde.serialize(DATA)));
+    }
+
+    @Test
+    void shouldCacheCompiledSchema() {
+        Serdes.AVRO.create(Map.of(AbstractSchemaSerde.SCHEMA_CONFIG_NAME, AVRO_SCHEMA));
+        int cached = AbstractSchemaSerde.cachedSchemas();
+
+        Serdes.AVRO.create(Map.of(AbstractSchemaSerde.SCHEMA_CONFIG_NAME, AVRO_SCHEMA));
+
+        Assertions.assertEquals(cached, AbstractSchemaSerde.cachedSchemas());
+    }
+
+    @Test
+    void shouldFailGivenMissingSchema() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Serdes.AVRO.create(Map.of()));
+    }
+
+    private static void assertReading(final JsonNode node) {
+        Assertions.assertEquals(42, node.get("id").asInt());
+        Assertions.assertEquals("sensor", node.get("name").asText());
+        Assertions.assertEquals(1.5, node.get("value").asDouble());
+    }
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.solace.serde;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ByteArraySerdeTest {
+
+    private static final byte[] DATA = new byte[]{0, 1, 2, 3, 4, 5, 6, 7};
+
+    private final ByteArraySerde serde = new ByteArraySerde();
+
+    @Test
+    void shouldNotCopyGivenByteArray() {
+        Assertions.assertSame(DATA, serde.serialize(DATA));
+    }
+
+    @Test
+    void shouldNotCopyGivenWrappedArray() {
+        Assertions.assertSame(DATA, serde.serialize(ByteBuffer.wrap(DATA)));
+    }
+
+    @Test
+    void shouldNotCopyOnDeserialize() {
+        Assertions.assertSame(DATA, serde.deserialize(DATA).array());
+    }
+
+    @Test
+    void shouldHonourPositionAndLimit() {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA, 2, 3);
+
+        Assertions.assertArrayEquals(new byte[]{2, 3, 4}, serde.serialize(buffer));
+        Assertions.assertEquals(2, buffer.position());
+    }
+
+    @Test
+    void shouldHonourSlice() {
+        ByteBuffer slice = ByteBuffer.wrap(DATA).position(4).slice();
+
+        Assertions.assertArrayEquals(new byte[]{4, 5, 6, 7}, serde.serialize(slice));
+    }
+
+    @Test
+    void shouldSupportDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length).put(DATA).flip();
+
+        Assertions.assertArrayEquals(DATA, serde.serialize(buffer));
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldSupportReadOnlyBuffer() {
+        Assertions.assertArrayEquals(DATA, serde.serialize(ByteBuffer.wrap(DATA).asReadOnlyBuffer()));
+    }
+}
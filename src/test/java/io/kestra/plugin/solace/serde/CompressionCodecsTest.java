@@ -0,0 +1,43 @@
+package io.kestra.plugin.solace.serde;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CompressionCodecsTest {
+
+    private static final byte[] DATA = "{\"key\": \"value\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(CompressionCodecs.class)
+    void shouldRoundTrip(CompressionCodecs codec) {
+        byte[] compressed = codec.compress(DATA);
+
+        Assertions.assertArrayEquals(DATA, codec.decompress(compressed));
+        Assertions.assertArrayEquals(DATA, CompressionCodecs.decompress(compressed, codec.name()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionCodecs.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+    void shouldReducePayloadSize(CompressionCodecs codec) {
+        Assertions.assertTrue(codec.compress(DATA).length < DATA.length);
+    }
+
+    @Test
+    void shouldReturnDataGivenNoCodec() {
+        Assertions.assertSame(DATA, CompressionCodecs.decompress(DATA, null));
+    }
+
+    @Test
+    void shouldFailWithDescriptiveErrorGivenUnknownCodec() {
+        IllegalArgumentException e = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CompressionCodecs.decompress(DATA, "brotli")
+        );
+        Assertions.assertTrue(e.getMessage().contains("brotli"));
+        Assertions.assertTrue(e.getMessage().contains(CompressionCodecs.MESSAGE_PROPERTY));
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.solace.serde;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class SerdesTest {
+
+    private static final Map<String, Object> DATA = Map.of(
+        "id", 42,
+        "name", "sensor",
+        "values", List.of(1.5, 2.5, 3.5),
+        "active", true
+    );
+
+    @ParameterizedTest
+    @EnumSource(value = Serdes.class, names = {"JSON", "ION", "CBOR", "SMILE", "MESSAGEPACK"})
+    void shouldRoundTrip(Serdes serdes) {
+        Serde serde = serdes.create(Map.of());
+
+        JsonNode node = (JsonNode) serde.deserialize(serde.serialize(DATA));
+
+        Assertions.assertEquals(42, node.get("id").asInt());
+        Assertions.assertEquals("sensor", node.get("name").asText());
+        Assertions.assertEquals(3, node.get("values").size());
+        Assertions.assertEquals(2.5, node.get("values").get(1).asDouble());
+        Assertions.assertTrue(node.get("active").asBoolean());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Serdes.class, names = {"CBOR", "SMILE", "MESSAGEPACK"})
+    void shouldBeSmallerThanJson(Serdes serdes) {
+        byte[] json = Serdes.JSON.create(Map.of()).serialize(DATA);
+
+        Assertions.assertTrue(serdes.create(Map.of()).serialize(DATA).length < json.length);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Serdes.class, names = {"AVRO", "PROTOBUF"}, mode = EnumSource.Mode.EXCLUDE)
+    void shouldReturnNullGivenNullData(Serdes serdes) {
+        Serde serde = serdes.create(Map.of());
+
+        Assertions.assertNull(serde.serialize(null));
+        Assertions.assertNull(serde.deserialize(null));
+    }
+}
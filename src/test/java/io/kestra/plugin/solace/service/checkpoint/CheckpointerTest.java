@@ -0,0 +1,82 @@
+package io.kestra.plugin.solace.service.checkpoint;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.solace.Produce;
+import io.kestra.plugin.solace.service.publisher.AckTracker;
+
+import jakarta.inject.Inject;
+
+@KestraTest
+class CheckpointerTest {
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private CheckpointStore store;
+
+    @BeforeEach
+    void setUp() {
+        Produce task = Produce.builder()
+            .id(CheckpointerTest.class.getSimpleName())
+            .type(Produce.class.getName())
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        store = new CheckpointStore(runContext, task.getId(), IdUtils.create());
+    }
+
+    @Test
+    void shouldLoadSavedCheckpoint() throws Exception {
+        Assertions.assertEquals(Optional.empty(), store.load());
+
+        store.save(new Checkpoint(10, 256L));
+        Assertions.assertEquals(Optional.of(new Checkpoint(10, 256L)), store.load());
+
+        store.delete();
+        Assertions.assertEquals(Optional.empty(), store.load());
+    }
+
+    @Test
+    void shouldSaveOffsetOfFirstUnacknowledgedMessage() throws Exception {
+        AckTracker tracker = new AckTracker(0);
+        Checkpointer checkpointer = new Checkpointer(store, tracker, Duration.ZERO, LoggerFactory.getLogger(CheckpointerTest.class));
+        for (long i = 0; i < 3; i++) {
+            tracker.sent(i);
+            tracker.sealed(i);
+            checkpointer.recordOffset(i + 1, (i + 1) * 100);
+        }
+
+        tracker.acked(0);
+        tracker.acked(1);
+        checkpointer.save();
+
+        Assertions.assertEquals(Optional.of(new Checkpoint(2, 200L)), store.load());
+    }
+
+    @Test
+    void shouldPruneOffsetsOfAcknowledgedMessages() {
+        AckTracker tracker = new AckTracker(0);
+        Checkpointer checkpointer = new Checkpointer(store, tracker, Duration.ofHours(1), LoggerFactory.getLogger(CheckpointerTest.class));
+        for (long i = 0; i < 100; i++) {
+            tracker.sent(i);
+            tracker.sealed(i);
+            checkpointer.recordOffset(i + 1, (i + 1) * 100);
+            tracker.acked(i);
+        }
+
+        // only the offsets from the next checkpoint onward are kept, without waiting for a save.
+        Assertions.assertTrue(checkpointer.pendingOffsets() <= 2);
+    }
+}
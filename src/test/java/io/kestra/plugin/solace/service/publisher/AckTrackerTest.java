@@ -0,0 +1,38 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AckTrackerTest {
+
+    @Test
+    void shouldCommitContiguousAcknowledgements() {
+        AckTracker tracker = new AckTracker(10);
+        for (long i = 10; i < 13; i++) {
+            tracker.sent(i);
+            tracker.sealed(i);
+        }
+
+        tracker.acked(11);
+        tracker.acked(12);
+        Assertions.assertEquals(10, tracker.committed());
+
+        tracker.acked(10);
+        Assertions.assertEquals(13, tracker.committed());
+    }
+
+    @Test
+    void shouldWaitForAllMessagesOfAnInput() {
+        AckTracker tracker = new AckTracker(0);
+        tracker.sent(0);
+        tracker.sent(0);
+        tracker.acked(0);
+        Assertions.assertEquals(0, tracker.committed());
+
+        tracker.acked(0);
+        Assertions.assertEquals(0, tracker.committed(), "input is not sealed yet");
+
+        tracker.sealed(0);
+        Assertions.assertEquals(1, tracker.committed());
+    }
+}
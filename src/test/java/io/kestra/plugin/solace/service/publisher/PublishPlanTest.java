@@ -0,0 +1,107 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.solace.messaging.MessagingService;
+import com.solace.messaging.publisher.OutboundMessageBuilder;
+
+import io.kestra.plugin.solace.serde.Serdes;
+import io.kestra.plugin.solace.service.MessageChunks;
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+class PublishPlanTest {
+
+    private final List<Built> built = new ArrayList<>();
+
+    @Test
+    void shouldSplitPayloadLargerThanChunkSize() throws Exception {
+        PublishPlan plan = newPlan(10);
+        String payload = "abcdefghijklmnopqrstuvwxy";
+
+        plan.build(new OutboundMessageObject(payload, Map.of("key", "value"), null), (message, size) -> { });
+
+        Assertions.assertEquals(3, built.size());
+        Assertions.assertEquals(List.of(10, 10, 5), built.stream().map(chunk -> chunk.payload().length).toList());
+
+        ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+        String group = built.getFirst().properties().getProperty(MessageChunks.GROUP_PROPERTY);
+        for (int i = 0; i < built.size(); i++) {
+            Properties properties = built.get(i).properties();
+            Assertions.assertEquals(group, properties.getProperty(MessageChunks.GROUP_PROPERTY));
+            Assertions.assertEquals(String.valueOf(i), properties.getProperty(MessageChunks.SEQUENCE_PROPERTY));
+            Assertions.assertEquals("3", properties.getProperty(MessageChunks.TOTAL_PROPERTY));
+            // every chunk carries the message properties.
+            Assertions.assertEquals("value", properties.getProperty("key"));
+            reassembled.writeBytes(built.get(i).payload());
+        }
+        Assertions.assertEquals(payload, reassembled.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldNotSplitPayloadEqualToChunkSize() throws Exception {
+        PublishPlan plan = newPlan(10);
+
+        plan.build(new OutboundMessageObject("abcdefghij", null, null), (message, size) -> { });
+
+        Assertions.assertEquals(1, built.size());
+        Assertions.assertNull(built.getFirst().properties());
+    }
+
+    @Test
+    void shouldNotSplitPayloadGivenChunkingDisabled() throws Exception {
+        PublishPlan plan = newPlan(0);
+
+        plan.build(new OutboundMessageObject("x".repeat(10_000), null, null), (message, size) -> { });
+
+        Assertions.assertEquals(1, built.size());
+        Assertions.assertEquals(10_000, built.getFirst().payload().length);
+    }
+
+    private PublishPlan newPlan(final int chunkSize) {
+        PublisherContext context = PublisherContext.builder()
+            .logger(LoggerFactory.getLogger(PublishPlanTest.class))
+            .chunkSize(chunkSize)
+            .build();
+        return new PublishPlan(newService(), Serdes.STRING.create(Collections.emptyMap()), context, null);
+    }
+
+    private MessagingService newService() {
+        OutboundMessageBuilder builder = (OutboundMessageBuilder) Proxy.newProxyInstance(
+            OutboundMessageBuilder.class.getClassLoader(),
+            new Class<?>[]{OutboundMessageBuilder.class},
+            (proxy, method, args) ->
+            {
+                if (method.getName().equals("build")) {
+                    // the plan reuses its properties between messages, so they are copied.
+                    Properties properties = null;
+                    if (args.length > 1) {
+                        properties = new Properties();
+                        properties.putAll((Properties) args[1]);
+                    }
+                    built.add(new Built((byte[]) args[0], properties));
+                    return null;
+                }
+                return proxy;
+            }
+        );
+        return (MessagingService) Proxy.newProxyInstance(
+            MessagingService.class.getClassLoader(),
+            new Class<?>[]{MessagingService.class},
+            (proxy, method, args) -> method.getName().equals("messageBuilder") ? builder : null
+        );
+    }
+
+    private record Built(byte[] payload, Properties properties) {
+    }
+}
@@ -0,0 +1,52 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.kestra.core.serializers.FileSerde;
+
+class PublishReceiptWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteAllReceiptsGivenClose() throws Exception {
+        Path file = directory.resolve("receipts.ion");
+        try (PublishReceiptWriter writer = new PublishReceiptWriter(file)) {
+            writer.record(PublishReceiptWriter.Receipt.of(0, "id-0", 2_000, null));
+            writer.record(PublishReceiptWriter.Receipt.of(1, null, 5_000, new IllegalStateException("rejected")));
+        }
+
+        List<Map> receipts;
+        try (InputStream is = Files.newInputStream(file)) {
+            receipts = FileSerde.readAll(is, Map.class).collectList().block();
+        }
+
+        Assertions.assertEquals(2, receipts.size());
+        Assertions.assertEquals("id-0", receipts.get(0).get("applicationMessageId"));
+        Assertions.assertEquals(true, receipts.get(0).get("persisted"));
+        Assertions.assertEquals(2, ((Number) receipts.get(0).get("ackLatencyMicros")).longValue());
+        Assertions.assertEquals(1, ((Number) receipts.get(1).get("index")).longValue());
+        Assertions.assertEquals(false, receipts.get(1).get("persisted"));
+        Assertions.assertEquals("rejected", receipts.get(1).get("error"));
+    }
+
+    @Test
+    void shouldDropReceiptsGivenClosedWriter() throws Exception {
+        Path file = directory.resolve("receipts.ion");
+        PublishReceiptWriter writer = new PublishReceiptWriter(file);
+        writer.close();
+        writer.record(PublishReceiptWriter.Receipt.of(0, null, 0, null));
+        writer.close();
+
+        Assertions.assertEquals(0, Files.size(file));
+    }
+}
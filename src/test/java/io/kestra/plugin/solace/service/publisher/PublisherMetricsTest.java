@@ -0,0 +1,35 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PublisherMetricsTest {
+
+    @Test
+    void shouldComputeAckLatencyPercentiles() {
+        PublisherMetrics metrics = new PublisherMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordAckLatency(Duration.ofMillis(i).toNanos());
+        }
+
+        Assertions.assertEquals(100, metrics.ackLatencyCount());
+        assertAround(Duration.ofMillis(50), metrics.ackLatencyPercentile(50));
+        assertAround(Duration.ofMillis(99), metrics.ackLatencyPercentile(99));
+        assertAround(Duration.ofMillis(100), metrics.ackLatencyMax());
+    }
+
+    @Test
+    void shouldReturnZeroGivenNoLatency() {
+        PublisherMetrics metrics = new PublisherMetrics();
+
+        Assertions.assertEquals(Duration.ZERO, metrics.ackLatencyPercentile(99));
+        Assertions.assertEquals(Duration.ZERO, metrics.ackLatencyMax());
+    }
+
+    private static void assertAround(final Duration expected, final Duration actual) {
+        // latencies are recorded with a 1% precision.
+        Assertions.assertEquals(expected.toNanos(), actual.toNanos(), expected.toNanos() * 0.01);
+    }
+}
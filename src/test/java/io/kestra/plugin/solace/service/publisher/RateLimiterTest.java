@@ -0,0 +1,51 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    @Test
+    void shouldNotThrottleWithinBurst() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(100d, null, Duration.ofSeconds(1));
+
+        long waited = 0;
+        for (int i = 0; i < 100; i++) {
+            waited += limiter.acquire(1);
+        }
+
+        Assertions.assertEquals(0, waited);
+    }
+
+    @Test
+    void shouldThrottleMessagesBeyondBurst() throws InterruptedException {
+        // 10 messages can be sent at once, the 20 next ones at 100 messages per second.
+        RateLimiter limiter = new RateLimiter(100d, null, Duration.ofMillis(100));
+
+        long start = System.nanoTime();
+        long waited = 0;
+        for (int i = 0; i < 30; i++) {
+            waited += limiter.acquire(1);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertTrue(elapsed >= 150, "elapsed: " + elapsed);
+        Assertions.assertTrue(waited > 0);
+    }
+
+    @Test
+    void shouldThrottleBytesBeyondBurst() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(null, 10_000d, Duration.ofMillis(100));
+
+        Assertions.assertEquals(0, limiter.acquire(1_000));
+        Assertions.assertTrue(limiter.acquire(1_000) > 0);
+    }
+
+    @Test
+    void shouldFailGivenInvalidBurst() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1d, null, Duration.ZERO));
+    }
+}
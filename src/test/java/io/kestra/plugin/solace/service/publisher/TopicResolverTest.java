@@ -0,0 +1,53 @@
+package io.kestra.plugin.solace.service.publisher;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.solace.messaging.resources.Topic;
+
+import io.kestra.plugin.solace.service.publisher.AbstractSolaceDirectMessagePublisher.OutboundMessageObject;
+
+class TopicResolverTest {
+
+    @Test
+    void shouldResolveFixedTopic() {
+        TopicResolver resolver = new TopicResolver("orders/all", 10);
+
+        Topic topic = resolver.resolve(new OutboundMessageObject("payload", null, null));
+
+        Assertions.assertEquals("orders/all", topic.getName());
+        Assertions.assertSame(topic, resolver.resolve(new OutboundMessageObject("payload", Map.of(), null)));
+    }
+
+    @Test
+    void shouldResolveMessageTopic() {
+        TopicResolver resolver = new TopicResolver("orders/all", 10);
+
+        Topic topic = resolver.resolve(new OutboundMessageObject("payload", null, "orders/eu"));
+
+        Assertions.assertEquals("orders/eu", topic.getName());
+        Assertions.assertSame(topic, resolver.resolve(new OutboundMessageObject("other", null, "orders/eu")));
+    }
+
+    @Test
+    void shouldResolvePlaceholdersFromMessageProperties() {
+        TopicResolver resolver = new TopicResolver("orders/${region}/${customer}", 10);
+
+        Topic topic = resolver.resolve(new OutboundMessageObject("payload", Map.of("region", "eu", "customer", "42"), null));
+
+        Assertions.assertEquals("orders/eu/42", topic.getName());
+        Assertions.assertSame(topic, resolver.resolve(new OutboundMessageObject("other", Map.of("region", "eu", "customer", "42"), null)));
+    }
+
+    @Test
+    void shouldFailGivenMissingProperty() {
+        TopicResolver resolver = new TopicResolver("orders/${region}", 10);
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> resolver.resolve(new OutboundMessageObject("payload", Map.of(), null))
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ChunkAssemblerTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkAssemblerTest.class);
+
+    @TempDir
+    private Path spillDirectory;
+
+    @Test
+    void shouldReassembleChunksGivenOutOfOrderDelivery() {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(1024, Duration.ofMinutes(1), spillDirectory, LOG)) {
+            Assertions.assertTrue(assembler.add("group", 2, 3, new byte[]{5}, "m2").isEmpty());
+            Assertions.assertTrue(assembler.add("group", 0, 3, new byte[]{1, 2}, "m0").isEmpty());
+
+            Optional<ChunkAssembler.Assembled<String>> assembled = assembler.add("group", 1, 3, new byte[]{3, 4}, "m1");
+
+            Assertions.assertTrue(assembled.isPresent());
+            Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, assembled.get().payload());
+            Assertions.assertEquals(List.of("m2", "m0", "m1"), assembled.get().messages());
+            Assertions.assertEquals(0, assembler.pendingGroups());
+        }
+    }
+
+    @Test
+    void shouldSpillChunksGivenFullBuffer() throws Exception {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(2, Duration.ofMinutes(1), spillDirectory, LOG)) {
+            assembler.add("group", 0, 2, new byte[]{1, 2}, "m0");
+            assembler.add("group", 1, 2, new byte[]{3, 4}, "m1")
+                .ifPresentOrElse(
+                    assembled -> Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4}, assembled.payload()),
+                    Assertions::fail
+                );
+        }
+        try (var files = Files.list(spillDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void shouldIgnoreDuplicateChunks() {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(1024, Duration.ofMinutes(1), spillDirectory, LOG)) {
+            assembler.add("group", 0, 2, new byte[]{1}, "m0");
+            assembler.add("group", 0, 2, new byte[]{1}, "m0-redelivered");
+
+            ChunkAssembler.Assembled<String> assembled = assembler.add("group", 1, 2, new byte[]{2}, "m1").orElseThrow();
+
+            Assertions.assertArrayEquals(new byte[]{1, 2}, assembled.payload());
+            Assertions.assertEquals(3, assembled.messages().size());
+        }
+    }
+
+    @Test
+    void shouldExpireIncompleteGroups() {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(1024, Duration.ZERO, spillDirectory, LOG)) {
+            assembler.add("group", 0, 2, new byte[]{1}, "m0");
+
+            Assertions.assertEquals(List.of("m0"), assembler.expire());
+            Assertions.assertEquals(0, assembler.pendingGroups());
+        }
+    }
+
+    @Test
+    void shouldFailGivenInvalidSequence() {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(1024, Duration.ofMinutes(1), spillDirectory, LOG)) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> assembler.add("group", 2, 2, new byte[]{1}, "m"));
+        }
+    }
+
+    @Test
+    void shouldNotKeepChunkGivenInconsistentTotal() {
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(1024, Duration.ZERO, spillDirectory, LOG)) {
+            assembler.add("group", 0, 3, new byte[]{1}, "m0");
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> assembler.add("group", 1, 2, new byte[]{2}, "m1"));
+            Assertions.assertEquals(List.of("m0"), assembler.expire());
+        }
+    }
+
+    @Test
+    void shouldNotKeepChunkGivenSpillFailure() {
+        Path missing = spillDirectory.resolve("missing");
+        try (ChunkAssembler<String> assembler = new ChunkAssembler<>(0, Duration.ZERO, missing, LOG)) {
+            Assertions.assertThrows(UncheckedIOException.class, () -> assembler.add("group", 0, 2, new byte[]{1}, "m0"));
+            Assertions.assertEquals(List.of(), assembler.expire());
+        }
+    }
+}
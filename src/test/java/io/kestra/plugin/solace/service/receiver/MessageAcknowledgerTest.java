@@ -0,0 +1,63 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MessageAcknowledgerTest {
+
+    private final List<String> acknowledged = new ArrayList<>();
+
+    @Test
+    void shouldAcknowledgeEachMessageGivenImmediateMode() {
+        MessageAcknowledger<String> acknowledger = new MessageAcknowledger<>(acknowledged::add, AcknowledgementModes.IMMEDIATE, 10, Duration.ofMinutes(1));
+
+        acknowledger.acknowledge("m0");
+
+        Assertions.assertEquals(List.of("m0"), acknowledged);
+        Assertions.assertEquals(0, acknowledger.pending());
+    }
+
+    @Test
+    void shouldAcknowledgeInBatchesGivenBatchedMode() {
+        MessageAcknowledger<String> acknowledger = new MessageAcknowledger<>(acknowledged::add, AcknowledgementModes.BATCHED, 2, Duration.ofMinutes(1));
+
+        acknowledger.acknowledge("m0");
+        Assertions.assertTrue(acknowledged.isEmpty());
+
+        acknowledger.acknowledge("m1");
+        acknowledger.acknowledge("m2");
+
+        Assertions.assertEquals(List.of("m0", "m1"), acknowledged);
+        Assertions.assertEquals(1, acknowledger.pending());
+    }
+
+    @Test
+    void shouldFlushGivenBatchedModeAndElapsedInterval() {
+        MessageAcknowledger<String> acknowledger = new MessageAcknowledger<>(acknowledged::add, AcknowledgementModes.BATCHED, 10, Duration.ZERO);
+
+        acknowledger.acknowledge("m0");
+        Assertions.assertEquals(0, acknowledger.nextFlushDelay());
+        acknowledger.maybeFlush();
+
+        Assertions.assertEquals(List.of("m0"), acknowledged);
+    }
+
+    @Test
+    void shouldAcknowledgeOnlyOnFlushGivenDeferredMode() {
+        MessageAcknowledger<String> acknowledger = new MessageAcknowledger<>(acknowledged::add, AcknowledgementModes.DEFERRED, 1, Duration.ZERO);
+
+        acknowledger.acknowledge("m0");
+        acknowledger.acknowledge("m1");
+        acknowledger.maybeFlush();
+        Assertions.assertTrue(acknowledged.isEmpty());
+        Assertions.assertEquals(Long.MAX_VALUE, acknowledger.nextFlushDelay());
+
+        acknowledger.flush();
+
+        Assertions.assertEquals(List.of("m0", "m1"), acknowledged);
+    }
+}
@@ -0,0 +1,58 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OrderedExecutorTest {
+
+    @Test
+    void shouldConsumeResultsInSubmissionOrderGivenParallelTasks() {
+        List<Integer> results = new ArrayList<>();
+        try (OrderedExecutor<Integer> executor = new OrderedExecutor<>(4, 8, "test")) {
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                executor.submit(() ->
+                {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                    return value;
+                }, results::add);
+                Assertions.assertTrue(executor.pending() <= 8);
+            }
+            executor.drain(true);
+        }
+
+        Assertions.assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, results.get(i));
+        }
+    }
+
+    @Test
+    void shouldRunOnCallingThreadGivenParallelismOfOne() {
+        List<String> threads = new ArrayList<>();
+        try (OrderedExecutor<String> executor = new OrderedExecutor<>(1, 1, "test")) {
+            executor.submit(() -> Thread.currentThread().getName(), threads::add);
+        }
+
+        Assertions.assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    void shouldRethrowGivenFailedTask() {
+        try (OrderedExecutor<Integer> executor = new OrderedExecutor<>(2, 4, "test")) {
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () ->
+            {
+                executor.submit(() ->
+                {
+                    throw new IllegalStateException("boom");
+                }, result -> { });
+                executor.drain(true);
+            });
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.plugin.solace.serde.Serde;
+import io.kestra.plugin.solace.serde.Serdes;
+
+class PayloadModesTest {
+
+    private static final byte[] JSON = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Serde serde = Serdes.JSON.create(Map.of());
+
+    @Test
+    void shouldDeserializeGivenDeserializedMode() {
+        Object payload = PayloadModes.DESERIALIZED.decode(JSON, serde);
+
+        Assertions.assertEquals("value", ((JsonNode) payload).get("key").asText());
+    }
+
+    @Test
+    void shouldReturnSameBytesGivenRawBytesMode() {
+        Assertions.assertSame(JSON, PayloadModes.RAW_BYTES.decode(JSON, serde));
+    }
+
+    @Test
+    void shouldReturnStringGivenRawStringMode() {
+        Assertions.assertEquals("{\"key\":\"value\"}", PayloadModes.RAW_STRING.decode(JSON, serde));
+        Assertions.assertNull(PayloadModes.RAW_STRING.decode(null, serde));
+    }
+
+    @Test
+    void shouldFailGivenRawStringModeAndInvalidUtf8() {
+        Assertions.assertThrows(RuntimeException.class, () -> PayloadModes.RAW_STRING.decode(new byte[]{(byte) 0xC3, (byte) 0x28}, serde));
+    }
+}
@@ -0,0 +1,75 @@
+package io.kestra.plugin.solace.service.receiver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ReceiveBufferTest {
+
+    private final AtomicInteger pauses = new AtomicInteger();
+    private final AtomicInteger resumes = new AtomicInteger();
+
+    @Test
+    void shouldPauseGivenFullBufferAndResumeGivenHalfDrained() {
+        ReceiveBuffer<String> buffer = new ReceiveBuffer<>(4, pauses::incrementAndGet, resumes::incrementAndGet);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer("m" + i);
+        }
+        Assertions.assertTrue(buffer.isPaused());
+        Assertions.assertEquals(1, pauses.get());
+
+        Assertions.assertEquals("m0", buffer.poll(0));
+        Assertions.assertEquals("m1", buffer.poll(0));
+        Assertions.assertEquals(0, resumes.get());
+
+        Assertions.assertEquals("m2", buffer.poll(0));
+
+        Assertions.assertFalse(buffer.isPaused());
+        Assertions.assertEquals(1, resumes.get());
+        Assertions.assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void shouldPauseGivenLimitBelowCapacity() {
+        ReceiveBuffer<String> buffer = new ReceiveBuffer<>(100, pauses::incrementAndGet, resumes::incrementAndGet);
+        buffer.limit(2);
+        buffer.offer("m0");
+        Assertions.assertFalse(buffer.isPaused());
+
+        buffer.offer("m1");
+        Assertions.assertTrue(buffer.isPaused());
+
+        Assertions.assertEquals("m0", buffer.poll(0));
+        Assertions.assertFalse(buffer.isPaused());
+    }
+
+    @Test
+    void shouldPauseGivenLimitLoweredBelowBufferedMessages() {
+        ReceiveBuffer<String> buffer = new ReceiveBuffer<>(100, pauses::incrementAndGet, resumes::incrementAndGet);
+        buffer.offer("m0");
+        buffer.offer("m1");
+
+        buffer.limit(1);
+
+        Assertions.assertTrue(buffer.isPaused());
+        Assertions.assertEquals(1, pauses.get());
+    }
+
+    @Test
+    void shouldReturnNullGivenNoMessageWithinTimeout() {
+        ReceiveBuffer<String> buffer = new ReceiveBuffer<>(4, pauses::incrementAndGet, resumes::incrementAndGet);
+
+        Assertions.assertNull(buffer.poll(1));
+    }
+
+    @Test
+    void shouldPauseOnceGivenStop() {
+        ReceiveBuffer<String> buffer = new ReceiveBuffer<>(4, pauses::incrementAndGet, resumes::incrementAndGet);
+        buffer.offer("m0");
+
+        Assertions.assertEquals(1, buffer.stop());
+        Assertions.assertEquals(1, buffer.stop());
+        Assertions.assertEquals(1, pauses.get());
+    }
+}